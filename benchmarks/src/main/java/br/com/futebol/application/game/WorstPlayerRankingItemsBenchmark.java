@@ -0,0 +1,86 @@
+package br.com.futebol.application.game;
+
+import br.com.futebol.domain.game.GameConfirmation;
+import br.com.futebol.domain.game.GameWorstPlayerVote;
+import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.interfaces.game.WorstPlayerRankingItemResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede WorstPlayerVotingService.buildRankingItems (agrupamento, busca das confirmacoes e ordenacao)
+ * com o repositorio de confirmacoes em memoria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorstPlayerRankingItemsBenchmark {
+
+    /**
+     * Votos de um jogo (200) e de um historico de varios meses.
+     */
+    @Param({"200", "5000"})
+    int votes;
+
+    private WorstPlayerVotingService service;
+    private List<GameWorstPlayerVote> voteList;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID gameId = UUID.randomUUID();
+        List<GameConfirmation> confirmations = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            confirmations.add(GameConfirmation.builder()
+                    .id(UUID.randomUUID())
+                    .gameId(gameId)
+                    .userId(UUID.randomUUID())
+                    .confirmedName("Jogador " + i)
+                    .isGuest(false)
+                    .build());
+        }
+
+        voteList = new ArrayList<>(votes);
+        for (int i = 0; i < votes; i++) {
+            voteList.add(GameWorstPlayerVote.builder()
+                    .gameId(gameId)
+                    .voterUserId(UUID.randomUUID())
+                    .voterNameSnapshot("Votante " + i)
+                    .targetConfirmationId(confirmations.get(random.nextInt(confirmations.size())).getId())
+                    .build());
+        }
+
+        service = new WorstPlayerVotingService();
+        service.gameConfirmationRepository = new InMemoryGameConfirmationRepository(confirmations);
+    }
+
+    @Benchmark
+    public List<WorstPlayerRankingItemResponse> buildRankingItems() {
+        return service.buildRankingItems(voteList);
+    }
+
+    static class InMemoryGameConfirmationRepository extends GameConfirmationRepository {
+
+        private final List<GameConfirmation> confirmations;
+
+        InMemoryGameConfirmationRepository(List<GameConfirmation> confirmations) {
+            this.confirmations = confirmations;
+        }
+
+        @Override
+        public List<GameConfirmation> findByIds(Set<UUID> ids) {
+            return confirmations.stream()
+                    .filter(confirmation -> ids.contains(confirmation.getId()))
+                    .toList();
+        }
+    }
+}
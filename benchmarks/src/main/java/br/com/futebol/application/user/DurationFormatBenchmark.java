@@ -0,0 +1,35 @@
+package br.com.futebol.application.user;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationFormatBenchmark {
+
+    @Param({"01:05:30", "-00:45:00", "120:59:59"})
+    String timeString;
+
+    Duration duration;
+
+    @Setup
+    public void setUp() {
+        duration = UserStatisticsService.parseDuration(timeString).abs();
+    }
+
+    @Benchmark
+    public Duration parseDuration() {
+        return UserStatisticsService.parseDuration(timeString);
+    }
+
+    @Benchmark
+    public String formatDuration() {
+        return UserStatisticsService.formatDuration(duration);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.futebol.application.user;
+
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.user.RankingStatisticsRow;
+import br.com.futebol.interfaces.user.RankingItemResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede UserStatisticsService.buildRankingItems sobre as linhas ja projetadas pela consulta do ranking
+ * (estatistica e usuario na mesma linha): isola o custo de montagem do ranking do custo da consulta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RankingItemsBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int rows;
+
+    @Param({"goals", "minutes"})
+    String type;
+
+    private UserStatisticsService service;
+    private List<RankingStatisticsRow> rankingRows;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        rankingRows = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            // Um em cada dez usuarios fica fora do ranking (SUPER_ADMIN)
+            UserProfile profile = i % 10 == 0 ? UserProfile.SUPER_ADMIN : UserProfile.JOGADOR;
+            long value = "minutes".equals(type) ? random.nextInt(500_000) : random.nextInt(200);
+            rankingRows.add(new RankingStatisticsRow(UUID.randomUUID(), "Jogador " + i,
+                    "jogador" + i + "@futebol.com", true, profile, value));
+        }
+
+        service = new UserStatisticsService();
+    }
+
+    @Benchmark
+    public List<RankingItemResponse> buildRankingItems() {
+        return service.buildRankingItems(rankingRows, type);
+    }
+}
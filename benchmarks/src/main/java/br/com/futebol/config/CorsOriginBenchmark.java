@@ -0,0 +1,55 @@
+package br.com.futebol.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a verificacao de origem do antigo filtro JAX-RS (trim + split a cada requisicao)
+ * com a verificacao do CorsConfig atual (conjunto montado na inicializacao).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CorsOriginBenchmark {
+
+    private static final String ALLOWED_ORIGINS =
+            "https://futebol.com, https://app.futebol.com, https://admin.futebol.com, http://localhost:3000";
+
+    @Param({"https://app.futebol.com", "http://localhost:3000", "https://evil.com"})
+    String origin;
+
+    private CorsConfig corsConfig;
+
+    @Setup
+    public void setUp() {
+        corsConfig = new CorsConfig();
+        corsConfig.allowedOrigins = ALLOWED_ORIGINS;
+        corsConfig.allowedMethods = "GET,POST,PUT,PATCH,DELETE,OPTIONS";
+        corsConfig.allowedHeaders = "Accept,Authorization,Content-Type,X-Requested-With";
+        corsConfig.exposedHeaders = "Authorization";
+        corsConfig.maxAge = 3600;
+        corsConfig.init();
+    }
+
+    @Benchmark
+    public boolean perRequestSplit() {
+        if ("*".equals(ALLOWED_ORIGINS.trim())) {
+            return true;
+        }
+        for (String allowedOrigin : ALLOWED_ORIGINS.split(",")) {
+            if (allowedOrigin.trim().equals(origin)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean precomputedSet() {
+        return corsConfig.isOriginAllowed(origin);
+    }
+}
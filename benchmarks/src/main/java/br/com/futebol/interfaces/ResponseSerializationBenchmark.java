@@ -0,0 +1,91 @@
+package br.com.futebol.interfaces;
+
+import br.com.futebol.interfaces.game.GameConfirmationListResponse;
+import br.com.futebol.interfaces.game.GameConfirmationResponse;
+import br.com.futebol.interfaces.user.RankingItemResponse;
+import br.com.futebol.interfaces.user.RankingResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializacao Jackson das respostas mais requisitadas, com a mesma configuracao
+ * de datas usada pela aplicacao (ISO-8601, sem timestamps numericos).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"30", "200"})
+    int items;
+
+    private ObjectMapper objectMapper;
+    private RankingResponse rankingResponse;
+    private GameConfirmationListResponse confirmationListResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<RankingItemResponse> rankingItems = new ArrayList<>(items);
+        List<GameConfirmationResponse> confirmations = new ArrayList<>(items);
+        UUID gameId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        for (int i = 0; i < items; i++) {
+            rankingItems.add(RankingItemResponse.builder()
+                    .position(i + 1)
+                    .userId(UUID.randomUUID())
+                    .userName("Jogador " + i)
+                    .userEmail("jogador" + i + "@futebol.com")
+                    .value((long) (items - i))
+                    .formattedValue(String.valueOf(items - i))
+                    .build());
+            confirmations.add(GameConfirmationResponse.builder()
+                    .id(UUID.randomUUID())
+                    .gameId(gameId)
+                    .userId(UUID.randomUUID())
+                    .confirmedName("Jogador " + i)
+                    .isGuest(i % 5 == 0)
+                    .confirmedAt(now)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        rankingResponse = RankingResponse.builder()
+                .type("goals")
+                .description("Ranking de Gols")
+                .items(rankingItems)
+                .total(rankingItems.size())
+                .build();
+        confirmationListResponse = GameConfirmationListResponse.builder()
+                .gameId(gameId)
+                .confirmations(confirmations)
+                .total(confirmations.size())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeRankingResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(rankingResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeGameConfirmationListResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(confirmationListResponse);
+    }
+}
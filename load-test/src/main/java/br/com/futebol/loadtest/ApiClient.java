@@ -0,0 +1,99 @@
+package br.com.futebol.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP da simulacao: mede cada chamada e grava o resultado na etapa informada.
+ */
+public class ApiClient {
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, StepStats> steps = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public Result get(String step, String path, String token, int expectedStatus) {
+        return send(step, request(path, token).GET().build(), expectedStatus);
+    }
+
+    public Result post(String step, String path, String token, Object body, int expectedStatus) {
+        return send(step, request(path, token).POST(json(body)).build(), expectedStatus);
+    }
+
+    public Result put(String step, String path, String token, Object body, int expectedStatus) {
+        return send(step, request(path, token).PUT(json(body)).build(), expectedStatus);
+    }
+
+    /**
+     * @return estatisticas por etapa, na ordem em que as etapas foram executadas
+     */
+    public Map<String, StepStats> steps() {
+        synchronized (steps) {
+            return new LinkedHashMap<>(steps);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Corpo invalido", e);
+        }
+    }
+
+    private Result send(String step, HttpRequest request, int expectedStatus) {
+        StepStats stats = steps.computeIfAbsent(step, StepStats::new);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean success = response.statusCode() == expectedStatus;
+            stats.record(elapsed, response.statusCode(), success);
+
+            JsonNode body = response.body().length == 0 ? null : objectMapper.readTree(response.body());
+            return new Result(response.statusCode(), success, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.record(System.nanoTime() - start, 0, false);
+            return new Result(0, false, null);
+        } catch (Exception e) {
+            stats.record(System.nanoTime() - start, 0, false);
+            return new Result(0, false, null);
+        }
+    }
+
+    public record Result(int status, boolean success, JsonNode body) {
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.futebol.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Reproduz o pico de uma noite de jogo:
+ * <ol>
+ *     <li>ADMIN cria o jogo (lista liberada);</li>
+ *     <li>os jogadores se cadastram, fazem login e confirmam o nome dentro da janela de confirmacao;</li>
+ *     <li>durante as confirmacoes, os rankings sao consultados continuamente;</li>
+ *     <li>ADMIN abre a votacao de pior do jogo e todos votam;</li>
+ *     <li>o ranking de pior do jogo e consultado e a votacao e encerrada.</li>
+ * </ol>
+ * Parametros via -D: load.base-url, load.players, load.confirm-window-seconds, load.vote-window-seconds,
+ * load.ranking-pollers, load.admin-email, load.admin-password, load.label, load.report-dir.
+ */
+public class GameNightSimulation {
+
+    private static final List<String> RANKING_TYPES = List.of("goals", "victories", "minutes-played");
+
+    private final ApiClient client;
+    private final int players;
+    private final int confirmWindowSeconds;
+    private final int voteWindowSeconds;
+    private final int rankingPollers;
+    private final String adminEmail;
+    private final String adminPassword;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    GameNightSimulation(ApiClient client, int players, int confirmWindowSeconds, int voteWindowSeconds,
+                        int rankingPollers, String adminEmail, String adminPassword) {
+        this.client = client;
+        this.players = players;
+        this.confirmWindowSeconds = confirmWindowSeconds;
+        this.voteWindowSeconds = voteWindowSeconds;
+        this.rankingPollers = rankingPollers;
+        this.adminEmail = adminEmail;
+        this.adminPassword = adminPassword;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String label = System.getProperty("load.label", "local");
+        ApiClient client = new ApiClient(System.getProperty("load.base-url", "http://localhost:8080"));
+        GameNightSimulation simulation = new GameNightSimulation(
+                client,
+                Integer.getInteger("load.players", 200),
+                Integer.getInteger("load.confirm-window-seconds", 60),
+                Integer.getInteger("load.vote-window-seconds", 30),
+                Integer.getInteger("load.ranking-pollers", 20),
+                System.getProperty("load.admin-email", "loadtest.admin@futebol.com"),
+                System.getProperty("load.admin-password", "loadtest123"));
+
+        long start = System.currentTimeMillis();
+        simulation.run();
+        long durationMillis = System.currentTimeMillis() - start;
+
+        LoadReport report = new LoadReport(label, durationMillis, simulation.parameters(), client.steps());
+        Path reportDir = Path.of(System.getProperty("load.report-dir", "target/load-report"));
+        report.print(System.out);
+        report.write(reportDir);
+        System.out.println("Relatorio gravado em " + reportDir.toAbsolutePath());
+    }
+
+    void run() throws InterruptedException {
+        String adminToken = adminToken();
+        String gameId = createGame(adminToken);
+
+        List<Player> registered = registerPlayers();
+        confirmWhilePollingRankings(gameId, registered);
+
+        client.put("open-voting", votingPath(gameId, "/open"), adminToken, null, 200);
+        vote(gameId, registered);
+
+        String anyPlayerToken = registered.isEmpty() ? adminToken : registered.get(0).token();
+        client.get("worst-player-ranking", votingPath(gameId, "/ranking"), anyPlayerToken, 200);
+        client.put("close-voting", votingPath(gameId, "/close"), adminToken, null, 200);
+    }
+
+    Map<String, Object> parameters() {
+        return Map.of(
+                "players", players,
+                "confirmWindowSeconds", confirmWindowSeconds,
+                "voteWindowSeconds", voteWindowSeconds,
+                "rankingPollers", rankingPollers);
+    }
+
+    private String adminToken() {
+        ApiClient.Result login = login("admin-login", adminEmail, adminPassword);
+        if (!login.success()) {
+            client.post("admin-register", "/api/users", null, Map.of(
+                    "fullName", "Admin Carga",
+                    "email", adminEmail,
+                    "password", adminPassword,
+                    "profile", "ADMIN"), 201);
+            login = login("admin-login", adminEmail, adminPassword);
+        }
+        if (!login.success()) {
+            throw new IllegalStateException("Nao foi possivel autenticar o ADMIN " + adminEmail);
+        }
+        return login.body().path("token").asText();
+    }
+
+    private String createGame(String adminToken) {
+        ApiClient.Result game = client.post("create-game", "/api/games", adminToken, Map.of(
+                "name", "Carga " + runId,
+                "startDate", LocalDate.now().toString(),
+                "startHour", "20:00"), 201);
+        if (!game.success()) {
+            throw new IllegalStateException("Nao foi possivel criar o jogo (status " + game.status() + ")");
+        }
+        return game.body().path("id").asText();
+    }
+
+    private List<Player> registerPlayers() throws InterruptedException {
+        List<Player> registered = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < players; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    String name = "Jogador " + runId + " " + index;
+                    String email = "jogador." + runId + "." + index + "@futebol.com";
+                    client.post("register-player", "/api/users", null, Map.of(
+                            "fullName", name,
+                            "email", email,
+                            "password", "senha123"), 201);
+                    ApiClient.Result login = login("player-login", email, "senha123");
+                    if (login.success()) {
+                        registered.add(new Player(name, login.body().path("token").asText()));
+                    }
+                });
+            }
+        }
+        return new ArrayList<>(registered);
+    }
+
+    private void confirmWhilePollingRankings(String gameId, List<Player> registered) throws InterruptedException {
+        AtomicBoolean confirming = new AtomicBoolean(true);
+        String pollerToken = registered.isEmpty() ? null : registered.get(0).token();
+
+        try (ExecutorService pollers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < rankingPollers && pollerToken != null; i++) {
+                pollers.submit(() -> {
+                    while (confirming.get()) {
+                        String type = RANKING_TYPES.get(ThreadLocalRandom.current().nextInt(RANKING_TYPES.size()));
+                        client.get("ranking-" + type, "/api/ranking/" + type, pollerToken, 200);
+                        sleepMillis(ThreadLocalRandom.current().nextInt(250, 1000));
+                    }
+                });
+            }
+
+            spreadOver(confirmWindowSeconds, registered, player -> client.post("confirm-name",
+                    "/api/games/" + gameId + "/confirmations", player.token(),
+                    Map.of("confirmedName", player.name()), 201));
+            confirming.set(false);
+        }
+    }
+
+    private void vote(String gameId, List<Player> registered) throws InterruptedException {
+        spreadOver(voteWindowSeconds, registered, player -> {
+            ApiClient.Result candidates = client.get("list-candidates", votingPath(gameId, "/candidates"), player.token(), 200);
+            if (!candidates.success() || candidates.body() == null || candidates.body().isEmpty()) {
+                return;
+            }
+            JsonNode target = candidates.body().get(ThreadLocalRandom.current().nextInt(candidates.body().size()));
+            client.post("vote", votingPath(gameId, "/votes"), player.token(),
+                    Map.of("targetConfirmationId", target.path("confirmationId").asText()), 201);
+        });
+    }
+
+    /**
+     * Dispara uma acao por jogador em instantes aleatorios dentro da janela e aguarda todas terminarem.
+     */
+    private void spreadOver(int windowSeconds, List<Player> registered, Consumer<Player> action)
+            throws InterruptedException {
+        try (ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+            for (Player player : registered) {
+                long delay = windowMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(windowMillis);
+                scheduler.schedule(() -> executor.submit(() -> action.accept(player)), delay, TimeUnit.MILLISECONDS);
+            }
+            scheduler.shutdown();
+            scheduler.awaitTermination(windowSeconds + 60L, TimeUnit.SECONDS);
+        }
+    }
+
+    private ApiClient.Result login(String step, String email, String password) {
+        return client.post(step, "/api/auth/login", null, Map.of("email", email, "password", password), 200);
+    }
+
+    private static String votingPath(String gameId, String suffix) {
+        return "/api/games/" + gameId + "/worst-player-voting" + suffix;
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Player(String name, String token) {
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.futebol.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Relatorio da simulacao em JSON e CSV, com uma linha por etapa e ordem estavel,
+ * para comparar execucoes entre versoes com diff.
+ */
+public class LoadReport {
+
+    private final String label;
+    private final long durationMillis;
+    private final Map<String, Object> parameters;
+    private final List<StepStats.Summary> steps;
+
+    public LoadReport(String label, long durationMillis, Map<String, Object> parameters, Map<String, StepStats> steps) {
+        this.label = label;
+        this.durationMillis = durationMillis;
+        this.parameters = parameters;
+        this.steps = steps.values().stream().map(StepStats::summarize).toList();
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n%-26s %8s %8s %8s %10s %10s %10s %10s %10s%n",
+                "etapa", "total", "erros", "taxa", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (StepStats.Summary step : steps) {
+            out.printf(Locale.ROOT, "%-26s %8d %8d %7.2f%% %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    step.step(), step.count(), step.errors(), step.errorRate() * 100,
+                    step.p50Ms(), step.p90Ms(), step.p95Ms(), step.p99Ms(), step.maxMs());
+        }
+        out.printf(Locale.ROOT, "Duracao total: %.1f s%n", durationMillis / 1000d);
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(directory.resolve(label + ".json").toFile(), Map.of(
+                "label", label,
+                "generatedAt", OffsetDateTime.now().toString(),
+                "durationMillis", durationMillis,
+                "parameters", parameters,
+                "steps", steps));
+
+        StringBuilder csv = new StringBuilder("step,count,errors,error_rate,mean_ms,p50_ms,p90_ms,p95_ms,p99_ms,max_ms\n");
+        for (StepStats.Summary step : steps) {
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    step.step(), step.count(), step.errors(), step.errorRate(), step.meanMs(),
+                    step.p50Ms(), step.p90Ms(), step.p95Ms(), step.p99Ms(), step.maxMs()));
+        }
+        Files.writeString(directory.resolve(label + ".csv"), csv);
+    }
+}
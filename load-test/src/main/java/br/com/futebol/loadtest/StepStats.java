@@ -0,0 +1,77 @@
+package br.com.futebol.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencias e erros de uma etapa da simulacao. Seguro para gravacao concorrente.
+ */
+public class StepStats {
+
+    private final String step;
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+    private final AtomicLong errors = new AtomicLong();
+    private final Map<String, AtomicLong> errorsByStatus = new ConcurrentHashMap<>();
+
+    public StepStats(String step) {
+        this.step = step;
+    }
+
+    /**
+     * @param elapsedNanos latencia da chamada
+     * @param status status HTTP (0 quando houve falha de conexao)
+     * @param success true se o status foi o esperado pela etapa
+     */
+    public void record(long elapsedNanos, int status, boolean success) {
+        latenciesNanos.add(elapsedNanos);
+        if (!success) {
+            errors.incrementAndGet();
+            errorsByStatus.computeIfAbsent(String.valueOf(status), key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * @return resumo da etapa com percentis em milissegundos
+     */
+    public Summary summarize() {
+        long[] sorted = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        long count = sorted.length;
+        double mean = count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000d;
+        Map<String, Long> statusErrors = new TreeMap<>();
+        errorsByStatus.forEach((status, total) -> statusErrors.put(status, total.get()));
+
+        return new Summary(
+                step,
+                count,
+                errors.get(),
+                count == 0 ? 0 : (double) errors.get() / count,
+                round(mean),
+                percentile(sorted, 50),
+                percentile(sorted, 90),
+                percentile(sorted, 95),
+                percentile(sorted, 99),
+                count == 0 ? 0 : round(sorted[sorted.length - 1] / 1_000_000d),
+                statusErrors);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100d * sorted.length) - 1;
+        return round(sorted[Math.max(0, index)] / 1_000_000d);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100d) / 100d;
+    }
+
+    public record Summary(String step, long count, long errors, double errorRate, double meanMs,
+                          double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs,
+                          Map<String, Long> errorsByStatus) {
+    }
+}
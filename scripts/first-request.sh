@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# =============================================================================
+# Mede o tempo entre o inicio do processo e a primeira requisicao atendida
+# (GET /api/health com status 200). Imprime o valor em milissegundos.
+#
+# Uso: scripts/first-request.sh <comando para iniciar a aplicacao>
+#   scripts/first-request.sh java -jar target/quarkus-app/quarkus-run.jar
+#   scripts/first-request.sh java -XX:SharedArchiveFile=target/quarkus-app/app-cds.jsa -jar target/quarkus-app/quarkus-run.jar
+# =============================================================================
+set -euo pipefail
+
+PORT="${PORT:-8089}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-60}"
+LOG_FILE="${LOG_FILE:-target/first-request.log}"
+
+mkdir -p "$(dirname "$LOG_FILE")"
+start=$(date +%s%3N)
+PORT="$PORT" "$@" > "$LOG_FILE" 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true; wait "$pid" 2>/dev/null || true' EXIT
+
+deadline=$(( start + TIMEOUT_SECONDS * 1000 ))
+until curl -sf -o /dev/null "http://localhost:${PORT}/api/health"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$(date +%s%3N)" -gt "$deadline" ]; then
+        echo "Aplicacao nao respondeu (ver $LOG_FILE)" >&2
+        exit 1
+    fi
+    sleep 0.01
+done
+
+echo $(( $(date +%s%3N) - start ))
@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# =============================================================================
+# Compara tempo de inicializacao e memoria residente (RSS) entre o modo JVM e o
+# binario nativo. Requer o PostgreSQL local (docker compose up -d postgres) e os
+# artefatos ja construidos:
+#   ./mvnw package -DskipTests              -> target/quarkus-app/quarkus-run.jar
+#   ./mvnw package -Dnative -DskipTests     -> target/api-futebol-1.0.0-SNAPSHOT-runner
+#
+# Uso: scripts/startup-rss.sh [execucoes]   (padrao: 5)
+# =============================================================================
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8089}"
+JVM_CMD="java -jar target/quarkus-app/quarkus-run.jar"
+NATIVE_CMD="./target/api-futebol-1.0.0-SNAPSHOT-runner"
+READY_URL="http://localhost:${PORT}/q/health/ready"
+WARMUP_REQUESTS="${WARMUP_REQUESTS:-200}"
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+measure() {
+    local mode="$1"
+    local cmd="$2"
+
+    for run in $(seq 1 "$RUNS"); do
+        local start
+        start=$(now_ms)
+        PORT="$PORT" $cmd > "target/startup-${mode}-${run}.log" 2>&1 &
+        local pid=$!
+
+        until curl -sf -o /dev/null "$READY_URL"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "Processo ${mode} encerrou antes de ficar pronto (ver target/startup-${mode}-${run}.log)" >&2
+                exit 1
+            fi
+            sleep 0.01
+        done
+        local ready_ms=$(( $(now_ms) - start ))
+        local rss_ready
+        rss_ready=$(rss_mb "$pid")
+
+        for _ in $(seq 1 "$WARMUP_REQUESTS"); do
+            curl -sf -o /dev/null "http://localhost:${PORT}/api/health"
+        done
+        local rss_warm
+        rss_warm=$(rss_mb "$pid")
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        printf '%s,%d,%d,%d,%d\n' "$mode" "$run" "$ready_ms" "$rss_ready" "$rss_warm"
+    done
+}
+
+mkdir -p target
+echo "mode,run,ready_ms,rss_ready_mb,rss_after_${WARMUP_REQUESTS}_requests_mb" | tee target/startup-rss.csv
+measure jvm "$JVM_CMD" | tee -a target/startup-rss.csv
+measure native "$NATIVE_CMD" | tee -a target/startup-rss.csv
+
+echo
+echo "Medianas:"
+for mode in jvm native; do
+    awk -F, -v mode="$mode" '
+        $1 == mode { ready[++n] = $3; rss[n] = $4; warm[n] = $5 }
+        END {
+            asort(ready); asort(rss); asort(warm)
+            m = int((n + 1) / 2)
+            printf "  %-6s ready=%d ms  rss=%d MB  rss_warm=%d MB\n", mode, ready[m], rss[m], warm[m]
+        }' target/startup-rss.csv
+done
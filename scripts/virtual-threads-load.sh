@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# =============================================================================
+# Executa o load-test (noite de jogo) contra a aplicacao no pool de workers e em
+# virtual threads, com o mesmo numero de jogadores, e grava um relatorio por modo
+# em target/load-report/<modo>-<jogadores>.json/.csv. Requer o PostgreSQL local
+# (docker compose up -d postgres) e o jar ja construido:
+#   ./mvnw package -DskipTests              -> target/quarkus-app/quarkus-run.jar
+#
+# Uso: scripts/virtual-threads-load.sh [jogadores]   (padrao: 500)
+# Demais parametros do load-test: RANKING_POLLERS, DB_POOL_MAX_SIZE, LOAD_REPORT_DIR.
+# =============================================================================
+set -euo pipefail
+
+PLAYERS="${1:-500}"
+PORT="${PORT:-8089}"
+RANKING_POLLERS="${RANKING_POLLERS:-50}"
+DB_POOL_MAX_SIZE="${DB_POOL_MAX_SIZE:-50}"
+LOAD_REPORT_DIR="${LOAD_REPORT_DIR:-$(pwd)/target/load-report}"
+APP_CMD="java -jar target/quarkus-app/quarkus-run.jar"
+READY_URL="http://localhost:${PORT}/q/health/ready"
+
+run_mode() {
+    local mode="$1"
+    local virtual_threads="$2"
+    local log_file="target/load-${mode}-${PLAYERS}.log"
+
+    PORT="$PORT" VIRTUAL_THREADS_ENABLED="$virtual_threads" DB_POOL_MAX_SIZE="$DB_POOL_MAX_SIZE" \
+        $APP_CMD > "$log_file" 2>&1 &
+    local pid=$!
+    trap 'kill "$pid" 2>/dev/null || true; wait "$pid" 2>/dev/null || true' EXIT
+
+    until curl -sf -o /dev/null "$READY_URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Aplicacao (${mode}) encerrou antes de ficar pronta (ver ${log_file})" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+
+    ./mvnw -q -f load-test/pom.xml compile exec:java \
+        -Dload.base-url="http://localhost:${PORT}" \
+        -Dload.players="$PLAYERS" \
+        -Dload.ranking-pollers="$RANKING_POLLERS" \
+        -Dload.label="${mode}-${PLAYERS}" \
+        -Dload.report-dir="$LOAD_REPORT_DIR"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+mkdir -p target
+run_mode worker false
+run_mode virtual true
+
+echo
+echo "Relatorios: ${LOAD_REPORT_DIR}/worker-${PLAYERS}.csv e ${LOAD_REPORT_DIR}/virtual-${PLAYERS}.csv"
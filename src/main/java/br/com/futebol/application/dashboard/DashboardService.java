@@ -0,0 +1,85 @@
+package br.com.futebol.application.dashboard;
+
+import br.com.futebol.application.game.GameConfirmationService;
+import br.com.futebol.application.game.GameService;
+import br.com.futebol.application.game.WorstPlayerVotingService;
+import br.com.futebol.application.user.UserStatisticsService;
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.domain.game.Game;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.GameWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import br.com.futebol.interfaces.dashboard.DashboardResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Substitui as quatro chamadas da abertura do app (jogo liberado, minhas confirmacoes, status da votacao
+ * e minhas estatisticas): usuario e jogo sao resolvidos uma vez e as consultas rodam na mesma transacao.
+ *
+ * <p>Roda no primario: logo depois de confirmar presenca, o usuario deve ver a propria confirmacao.
+ */
+@ApplicationScoped
+public class DashboardService {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    GameConfirmationRepository gameConfirmationRepository;
+
+    @Inject
+    GameWorstPlayerVoteRepository gameWorstPlayerVoteRepository;
+
+    @Inject
+    UserStatisticsRepository userStatisticsRepository;
+
+    /**
+     * @param userId o ID do usuario autenticado
+     * @return o painel do usuario; sem jogo liberado, apenas as estatisticas
+     * @throws ResourceNotFoundException se o usuario nao for encontrado
+     */
+    @Transactional
+    public DashboardResponse getDashboard(UUID userId) {
+        User user = userRepository.findActiveById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
+
+        DashboardResponse.DashboardResponseBuilder dashboard = DashboardResponse.builder();
+
+        if (user.getProfile() != UserProfile.SUPER_ADMIN) {
+            userStatisticsRepository.findByUserId(userId)
+                    .map(UserStatisticsService::toResponse)
+                    .ifPresent(dashboard::statistics);
+        }
+
+        Optional<Game> released = gameRepository.findReleased();
+        if (released.isEmpty()) {
+            return dashboard.build();
+        }
+
+        Game game = released.get();
+        dashboard.game(GameService.toResponse(game))
+                .myConfirmations(gameConfirmationRepository.findRowsByGameIdAndUserRelated(game.getId(), userId).stream()
+                        .map(GameConfirmationService::toResponse)
+                        .toList());
+
+        // Mesmas regras de GET /worst-player-voting/status: apenas ADMIN e JOGADOR
+        if (user.getProfile() != UserProfile.SUPER_ADMIN) {
+            dashboard.worstPlayerVoting(WorstPlayerVotingService.toStatusResponse(game))
+                    .hasVoted(gameWorstPlayerVoteRepository.existsByGameIdAndVoterUserId(game.getId(), userId));
+        }
+
+        return dashboard.build();
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.futebol.application.export;
+
+import br.com.futebol.core.exceptions.ForbiddenException;
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.core.export.ExportFormat;
+import br.com.futebol.core.export.ExportWriter;
+import br.com.futebol.core.persistence.ReadOnly;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameConfirmationExportRow;
+import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameExportRow;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.GameWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.game.WorstPlayerVoteExportRow;
+import br.com.futebol.infrastructure.user.StatisticsExportRow;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Exportacoes para relatorios de fim de temporada. Os metodos write* rodam enquanto a resposta
+ * e escrita: a transacao mantem o cursor do PostgreSQL aberto e as linhas sao enviadas conforme chegam.
+ */
+@ApplicationScoped
+public class ExportService {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    UserStatisticsRepository userStatisticsRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    GameConfirmationRepository gameConfirmationRepository;
+
+    @Inject
+    GameWorstPlayerVoteRepository gameWorstPlayerVoteRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Validado antes de iniciar a resposta, para que o erro nao chegue no meio do stream.
+     *
+     * @param userId o ID do usuario que esta exportando
+     * @throws ResourceNotFoundException se o usuario nao for encontrado
+     * @throws ForbiddenException se o usuario nao for ADMIN ou SUPER_ADMIN
+     */
+    public void validateExportPermission(UUID userId) {
+        User user = userRepository.findActiveById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
+
+        if (user.getProfile() != UserProfile.ADMIN && user.getProfile() != UserProfile.SUPER_ADMIN) {
+            throw new ForbiddenException("Apenas ADMIN ou SUPER_ADMIN podem exportar dados");
+        }
+    }
+
+    /**
+     * @param format formato de saida
+     * @param output stream da resposta
+     * @return quantidade de linhas exportadas
+     */
+    @ReadOnly
+    @Transactional
+    public long writeStatistics(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<StatisticsExportRow> rows = userStatisticsRepository.streamForExport()) {
+            return ExportWriter.write(rows, StatisticsExportRow.class, format, objectMapper, output);
+        }
+    }
+
+    /**
+     * @param format formato de saida
+     * @param output stream da resposta
+     * @return quantidade de linhas exportadas
+     */
+    @ReadOnly
+    @Transactional
+    public long writeGames(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<GameExportRow> rows = gameRepository.streamForExport()) {
+            return ExportWriter.write(rows, GameExportRow.class, format, objectMapper, output);
+        }
+    }
+
+    /**
+     * @param format formato de saida
+     * @param output stream da resposta
+     * @return quantidade de linhas exportadas
+     */
+    @ReadOnly
+    @Transactional
+    public long writeConfirmations(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<GameConfirmationExportRow> rows = gameConfirmationRepository.streamForExport()) {
+            return ExportWriter.write(rows, GameConfirmationExportRow.class, format, objectMapper, output);
+        }
+    }
+
+    /**
+     * @param format formato de saida
+     * @param output stream da resposta
+     * @return quantidade de linhas exportadas
+     */
+    @ReadOnly
+    @Transactional
+    public long writeWorstPlayerVotes(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<WorstPlayerVoteExportRow> rows = gameWorstPlayerVoteRepository.streamForExport()) {
+            return ExportWriter.write(rows, WorstPlayerVoteExportRow.class, format, objectMapper, output);
+        }
+    }
+}
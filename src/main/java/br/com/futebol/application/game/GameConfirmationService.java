@@ -4,11 +4,13 @@ import br.com.futebol.core.exceptions.ConflictException;
 import br.com.futebol.core.exceptions.BusinessException;
 import br.com.futebol.core.exceptions.ForbiddenException;
 import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.core.persistence.ReadOnly;
 import br.com.futebol.domain.game.Game;
 import br.com.futebol.domain.game.GameConfirmation;
 import br.com.futebol.domain.user.User;
 import br.com.futebol.domain.user.UserProfile;
 import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameConfirmationRow;
 import br.com.futebol.infrastructure.game.GameRepository;
 import br.com.futebol.infrastructure.user.UserRepository;
 import br.com.futebol.application.user.UserService;
@@ -17,6 +19,7 @@ import br.com.futebol.interfaces.game.ConfirmNameRequest;
 import br.com.futebol.interfaces.game.GameConfirmationListResponse;
 import br.com.futebol.interfaces.game.GamePlayerSearchResponse;
 import br.com.futebol.interfaces.game.GameConfirmationResponse;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -52,6 +55,7 @@ public class GameConfirmationService {
      * @throws ConflictException se o nome ja estiver confirmado para este jogo
      */
     @Transactional
+    @Timed(value = "futebol.game.confirmation.confirm", description = "Tempo de confirmacao de nome no jogo")
     public GameConfirmationResponse confirmName(UUID gameId, ConfirmNameRequest request, UUID userId) {
         Game game = gameRepository.findByIdOptional(gameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Jogo", "id", gameId));
@@ -95,6 +99,7 @@ public class GameConfirmationService {
      * @throws ResourceNotFoundException se o jogo não for encontrado
      * @throws ForbiddenException se o usuario não for ADMIN ou SUPER_ADMIN
      */
+    @ReadOnly
     public GameConfirmationListResponse listConfirmations(UUID gameId, UUID userId) {
         var user = userRepository.findByIdOptional(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
@@ -106,9 +111,9 @@ public class GameConfirmationService {
         gameRepository.findByIdOptional(gameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Jogo", "id", gameId));
 
-        List<GameConfirmation> confirmations = gameConfirmationRepository.findByGameId(gameId);
+        List<GameConfirmationRow> confirmations = gameConfirmationRepository.findRowsByGameId(gameId);
         List<GameConfirmationResponse> confirmationResponses = confirmations.stream()
-                .map(this::toResponse)
+                .map(GameConfirmationService::toResponse)
                 .collect(Collectors.toList());
 
         return GameConfirmationListResponse.builder()
@@ -124,14 +129,15 @@ public class GameConfirmationService {
      * @return Lista de GameConfirmationResponse com as confirmacoes relacionadas ao usuario
      * @throws ResourceNotFoundException se o jogo não for encontrado
      */
+    @ReadOnly(replica = false)
     public List<GameConfirmationResponse> findMyConfirmations(UUID gameId, UUID userId) {
         gameRepository.findByIdOptional(gameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Jogo", "id", gameId));
 
-        List<GameConfirmation> confirmations = gameConfirmationRepository.findByGameIdAndUserRelated(gameId, userId);
+        List<GameConfirmationRow> confirmations = gameConfirmationRepository.findRowsByGameIdAndUserRelated(gameId, userId);
         
         return confirmations.stream()
-                .map(this::toResponse)
+                .map(GameConfirmationService::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -214,7 +220,7 @@ public class GameConfirmationService {
      * @param confirmation a entidade GameConfirmation
      * @return GameConfirmationResponse
      */
-    private GameConfirmationResponse toResponse(GameConfirmation confirmation) {
+    public static GameConfirmationResponse toResponse(GameConfirmation confirmation) {
         return GameConfirmationResponse.builder()
                 .id(confirmation.getId())
                 .gameId(confirmation.getGameId())
@@ -227,5 +233,22 @@ public class GameConfirmationService {
                 .updatedAt(confirmation.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * @param row a projecao da confirmacao
+     * @return GameConfirmationResponse
+     */
+    public static GameConfirmationResponse toResponse(GameConfirmationRow row) {
+        return GameConfirmationResponse.builder()
+                .id(row.id())
+                .gameId(row.gameId())
+                .userId(row.userId())
+                .confirmedName(row.confirmedName())
+                .isGuest(row.isGuest())
+                .confirmedByUserId(row.confirmedByUserId())
+                .confirmedAt(row.confirmedAt())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+}
@@ -2,32 +2,47 @@ package br.com.futebol.application.game;
 
 import br.com.futebol.application.user.UserStatisticsService;
 import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.exceptions.ConflictException;
 import br.com.futebol.core.exceptions.ForbiddenException;
 import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.core.persistence.ReadOnly;
+import br.com.futebol.core.persistence.StatementTimeouts;
 import br.com.futebol.domain.game.Game;
 import br.com.futebol.domain.game.GameConfirmation;
 import br.com.futebol.domain.user.UserProfile;
 import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameHistoryRow;
 import br.com.futebol.infrastructure.game.GameRepository;
 import br.com.futebol.infrastructure.user.UserRepository;
 import br.com.futebol.interfaces.game.BulkUpdateStatisticsRequest;
 import br.com.futebol.interfaces.game.BulkUpdateStatisticsResponse;
 import br.com.futebol.interfaces.game.CreateGameRequest;
 import br.com.futebol.interfaces.game.CreateGameResponse;
+import br.com.futebol.interfaces.game.GameHistoryItemResponse;
+import br.com.futebol.interfaces.game.GameHistoryResponse;
 import br.com.futebol.interfaces.game.GameResponse;
 import br.com.futebol.interfaces.game.UpdateGameRequest;
 import br.com.futebol.interfaces.user.UpdateStatisticsRequest;
 import br.com.futebol.interfaces.user.UserStatisticsResponse;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.hibernate.exception.ConstraintViolationException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,9 +50,17 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class GameService {
 
+    static final String RELEASED_GAME_CONSTRAINT = "uk_games_released";
+    static final int DEFAULT_HISTORY_LIMIT = 20;
+    static final int MAX_HISTORY_LIMIT = 100;
+    private static final String CURSOR_SEPARATOR = "_";
+
     @Inject
     GameRepository gameRepository;
 
+    @ConfigProperty(name = "futebol.query-timeout.bulk-update", defaultValue = "10000")
+    long bulkUpdateTimeoutMillis;
+
     @Inject
     UserRepository userRepository;
 
@@ -56,6 +79,45 @@ public class GameService {
                 .orElse(List.of());
     }
 
+    /**
+     * Historico paginado por keyset: cada pagina e uma unica consulta limitada, sem OFFSET.
+     *
+     * @param startDate data inicial yyyy-MM-dd (opcional)
+     * @param endDate data final yyyy-MM-dd (opcional)
+     * @param cursor o nextCursor da pagina anterior (opcional)
+     * @param limit tamanho da pagina (padrao {@value #DEFAULT_HISTORY_LIMIT}, maximo {@value #MAX_HISTORY_LIMIT})
+     * @return a pagina e o cursor da proxima, se houver
+     * @throws BusinessException se datas, cursor ou limite forem invalidos
+     */
+    @ReadOnly
+    public GameHistoryResponse findHistory(String startDate, String endDate, String cursor, Integer limit) {
+        OffsetDateTime start = startDate == null ? null : WorstPlayerVotingService.parseStartDate(startDate);
+        OffsetDateTime end = endDate == null ? null : WorstPlayerVotingService.parseEndDate(endDate);
+        if (start != null && end != null && end.isBefore(start)) {
+            throw new BusinessException("Data final deve ser maior ou igual a data inicial");
+        }
+
+        int pageSize = limit == null ? DEFAULT_HISTORY_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_HISTORY_LIMIT) {
+            throw new BusinessException("Limite deve estar entre 1 e " + MAX_HISTORY_LIMIT);
+        }
+
+        HistoryCursor after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+
+        // Uma linha a mais indica se existe proxima pagina
+        List<GameHistoryRow> rows = gameRepository.findHistoryPage(start, end,
+                after == null ? null : after.gameDate(), after == null ? null : after.id(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<GameHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        GameHistoryRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return GameHistoryResponse.builder()
+                .items(page.stream().map(this::toHistoryItemResponse).toList())
+                .nextCursor(hasNext ? encodeCursor(last.gameDate(), last.id()) : null)
+                .limit(pageSize)
+                .build();
+    }
+
     /**
      * @param id o ID do jogo
      * @return GameResponse com os dados do jogo
@@ -84,29 +146,31 @@ public class GameService {
 
         OffsetDateTime gameDate = parseGameDateTime(request.getStartDate(), request.getStartHour());
 
-        List<Game> releasedGames = gameRepository.findAllReleased();
-        String message = null;
-
-        if (!releasedGames.isEmpty()) {
-            for (Game releasedGame : releasedGames) {
-                releasedGame.setReleased(false);
-                gameRepository.persist(releasedGame);
-            }
-            if (releasedGames.size() == 1) {
-                message = String.format("O gameId %s foi alterado para released = false. O novo game e o unico com released = true.",
-                        releasedGames.get(0).getId());
-            } else {
-                message = String.format("Os gameIds foram alterados para released = false. O novo game é o unico com released = true.");
-            }
-        }
-
         Game game = Game.builder()
                 .gameDate(gameDate)
                 .name(normalizeName(request.getName()))
                 .released(true)
                 .build();
 
-        gameRepository.persist(game);
+        List<UUID> unreleasedGameIds = gameRepository.unreleaseAll();
+        String message = null;
+
+        if (unreleasedGameIds.size() == 1) {
+            message = String.format("O gameId %s foi alterado para released = false. O novo game e o unico com released = true.",
+                    unreleasedGameIds.get(0));
+        } else if (unreleasedGameIds.size() > 1) {
+            message = String.format("Os gameIds foram alterados para released = false. O novo game é o unico com released = true.");
+        }
+
+        try {
+            gameRepository.persistAndFlush(game);
+        } catch (PersistenceException e) {
+            // O flush passa pelo ExceptionConverter do JPA, que embrulha a ConstraintViolationException do Hibernate
+            if (isReleasedGameConflict(e)) {
+                throw new ConflictException("Outro jogo foi criado ao mesmo tempo, tente novamente", e);
+            }
+            throw e;
+        }
 
         return CreateGameResponse.builder()
                 .id(game.getId())
@@ -119,6 +183,19 @@ public class GameService {
                 .build();
     }
 
+    /**
+     * @param e excecao lancada pelo flush do novo jogo
+     * @return true se outro jogo foi liberado por uma criacao concorrente (uk_games_released)
+     */
+    static boolean isReleasedGameConflict(PersistenceException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return RELEASED_GAME_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
     /**
      * @param startDate data no formato yyyy-MM-dd
      * @param startHour hora no formato HH:mm
@@ -166,7 +243,8 @@ public class GameService {
         game.setName(normalizeName(request.getName()));
         game.setGameDate(parseGameDateTime(request.getStartDate(), request.getStartHour()));
 
-        gameRepository.persist(game);
+        // Flush para a resposta trazer o updated_at gravado pelo trigger (mesmo valor do ETag do GET)
+        gameRepository.persistAndFlush(game);
         return toResponse(game);
     }
 
@@ -190,7 +268,7 @@ public class GameService {
                 .orElseThrow(() -> new ResourceNotFoundException("Jogo", "id", id));
 
         game.setReleased(false);
-        gameRepository.persist(game);
+        gameRepository.persistAndFlush(game);
         return toResponse(game);
     }
 
@@ -204,7 +282,14 @@ public class GameService {
      * @throws BusinessException se algum userId nao estiver confirmado no jogo
      */
     @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = "futebol.bulk-update.transaction-timeout")
+    @Bulkhead(2)
+    @Timeout(10000)
     public BulkUpdateStatisticsResponse bulkUpdateStatistics(UUID gameId, BulkUpdateStatisticsRequest request, UUID userId) {
+        // O @Timeout so libera o chamador: cada comando e limitado no banco e a transacao expira junto com ele,
+        // entao uma atualizacao que estoura o limite e desfeita em vez de confirmada depois da resposta 503
+        StatementTimeouts.applyToTransaction(gameRepository.getEntityManager(), bulkUpdateTimeoutMillis);
+
         var user = userRepository.findByIdOptional(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
 
@@ -255,7 +340,7 @@ public class GameService {
      * @param game a entidade Game
      * @return GameResponse
      */
-    private GameResponse toResponse(Game game) {
+    public static GameResponse toResponse(Game game) {
         return GameResponse.builder()
                 .id(game.getId())
                 .name(game.getName())
@@ -268,5 +353,61 @@ public class GameService {
                 .updatedAt(game.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * @param gameDate data do ultimo jogo da pagina
+     * @param id ID do ultimo jogo da pagina
+     * @return cursor opaco (base64url) para a proxima pagina
+     */
+    static String encodeCursor(OffsetDateTime gameDate, UUID id) {
+        String position = gameDate.toInstant() + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor o nextCursor retornado pela pagina anterior
+     * @return posicao de onde a proxima pagina continua
+     * @throws BusinessException se o cursor for invalido
+     */
+    static HistoryCursor decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split(CURSOR_SEPARATOR, 2);
+            return new HistoryCursor(Instant.parse(parts[0]).atOffset(ZoneOffset.UTC), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor invalido: use o nextCursor retornado pela pagina anterior");
+        }
+    }
+
+    /**
+     * @param row a linha do historico
+     * @return GameHistoryItemResponse
+     */
+    private GameHistoryItemResponse toHistoryItemResponse(GameHistoryRow row) {
+        boolean votingClosed = row.worstPlayerVotingClosedAt() != null;
+        return GameHistoryItemResponse.builder()
+                .id(row.id())
+                .name(row.name())
+                .gameDate(row.gameDate())
+                .released(row.released())
+                .playerCount(row.playerCount())
+                .guestCount(row.guestCount())
+                .totalConfirmations(row.playerCount() + row.guestCount())
+                .worstPlayerVoting(GameHistoryItemResponse.VotingSummary.builder()
+                        .enabled(row.worstPlayerVotingEnabled())
+                        .openedAt(row.worstPlayerVotingOpenedAt())
+                        .closedAt(row.worstPlayerVotingClosedAt())
+                        .totalVotes(row.voteCount())
+                        // Com a votacao aberta o parcial nao e exposto
+                        .leaderName(votingClosed ? row.leaderName() : null)
+                        .leaderVotes(votingClosed ? row.leaderVotes() : null)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Posicao do ultimo jogo de uma pagina do historico.
+     */
+    record HistoryCursor(OffsetDateTime gameDate, UUID id) {
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.futebol.application.game;
+
+import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.exceptions.ForbiddenException;
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.domain.game.MatchResult;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.MatchResultRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.interfaces.game.MatchResultResponse;
+import br.com.futebol.interfaces.game.RecordMatchResultRequest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class MatchResultService {
+
+    @Inject
+    MatchResultRepository matchResultRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    /**
+     * Registra o placar de uma partida entre dois times da divisao atual do jogo e
+     * atualiza vitorias, empates e derrotas de todos os jogadores dos dois times.
+     *
+     * @param gameId o ID do jogo
+     * @param request os times e o placar da partida
+     * @param requesterUserId o ID do usuario que esta registrando o resultado
+     * @return MatchResultResponse com o resultado registrado
+     * @throws ResourceNotFoundException se o jogo nao for encontrado
+     * @throws ForbiddenException se o usuario nao for ADMIN ou SUPER_ADMIN
+     * @throws BusinessException se o jogo nao tiver divisao de times ou os times forem invalidos
+     */
+    @Transactional
+    public MatchResultResponse recordResult(UUID gameId, RecordMatchResultRequest request, UUID requesterUserId) {
+        validateAdminPermission(requesterUserId);
+
+        gameRepository.findByIdOptional(gameId)
+                .orElseThrow(() -> new ResourceNotFoundException("Jogo", "id", gameId));
+
+        if (request.getHomeTeamNumber().equals(request.getAwayTeamNumber())) {
+            throw new BusinessException("Os times da partida devem ser diferentes");
+        }
+
+        UUID teamDivisionId = matchResultRepository.findCurrentTeamDivisionId(gameId)
+                .orElseThrow(() -> new BusinessException("Jogo nao possui divisao de times"));
+
+        List<Integer> teamNumbers = matchResultRepository.findTeamNumbers(teamDivisionId);
+        if (!teamNumbers.contains(request.getHomeTeamNumber()) || !teamNumbers.contains(request.getAwayTeamNumber())) {
+            throw new BusinessException("Time informado nao pertence a divisao atual do jogo");
+        }
+
+        MatchResult result = MatchResult.builder()
+                .gameId(gameId)
+                .teamDivisionId(teamDivisionId)
+                .homeTeamNumber(request.getHomeTeamNumber())
+                .awayTeamNumber(request.getAwayTeamNumber())
+                .homeScore(request.getHomeScore())
+                .awayScore(request.getAwayScore())
+                .recordedByUserId(requesterUserId)
+                .build();
+
+        matchResultRepository.persist(result);
+        int updatedPlayers = matchResultRepository.applyResultToStatistics(result);
+
+        return toResponse(result, updatedPlayers);
+    }
+
+    /**
+     * @param gameId o ID do jogo
+     * @return lista de MatchResultResponse do jogo
+     * @throws ResourceNotFoundException se o jogo nao for encontrado
+     */
+    public List<MatchResultResponse> listResults(UUID gameId) {
+        gameRepository.findByIdOptional(gameId)
+                .orElseThrow(() -> new ResourceNotFoundException("Jogo", "id", gameId));
+
+        return matchResultRepository.findByGameId(gameId).stream()
+                .map(result -> toResponse(result, null))
+                .collect(Collectors.toList());
+    }
+
+    private void validateAdminPermission(UUID userId) {
+        User user = userRepository.findActiveById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
+
+        if (user.getProfile() != UserProfile.ADMIN && user.getProfile() != UserProfile.SUPER_ADMIN) {
+            throw new ForbiddenException("Apenas ADMIN ou SUPER_ADMIN podem registrar resultados");
+        }
+    }
+
+    /**
+     * @param result a entidade MatchResult
+     * @param updatedPlayers quantidade de jogadores atualizados (null em consultas)
+     * @return MatchResultResponse
+     */
+    private MatchResultResponse toResponse(MatchResult result, Integer updatedPlayers) {
+        return MatchResultResponse.builder()
+                .id(result.getId())
+                .gameId(result.getGameId())
+                .teamDivisionId(result.getTeamDivisionId())
+                .homeTeamNumber(result.getHomeTeamNumber())
+                .homeScore(result.getHomeScore())
+                .awayTeamNumber(result.getAwayTeamNumber())
+                .awayScore(result.getAwayScore())
+                .winnerTeamNumber(result.getWinnerTeamNumber())
+                .updatedPlayers(updatedPlayers)
+                .createdAt(result.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.futebol.application.game;
+
+import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.exceptions.ForbiddenException;
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.ReactiveWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.game.WorstPlayerVoteCountRow;
+import br.com.futebol.infrastructure.user.ReactiveUserRepository;
+import br.com.futebol.interfaces.game.WorstPlayerHistoricalRankingResponse;
+import br.com.futebol.interfaces.game.WorstPlayerRankingItemResponse;
+import br.com.futebol.interfaces.game.WorstPlayerRankingResponse;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Versao reativa das consultas de ranking do {@link WorstPlayerVotingService}.
+ * A contagem de votos e feita no banco em vez de carregar todos os votos.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveWorstPlayerVotingService {
+
+    @Inject
+    ReactiveWorstPlayerVoteRepository reactiveWorstPlayerVoteRepository;
+
+    @Inject
+    ReactiveUserRepository reactiveUserRepository;
+
+    /**
+     * @param gameId o ID do jogo
+     * @param requesterUserId o ID do usuario que esta consultando
+     * @return WorstPlayerRankingResponse com o ranking do jogo
+     * @throws ResourceNotFoundException se o usuario ou o jogo nao forem encontrados
+     * @throws ForbiddenException se o usuario nao for ADMIN ou JOGADOR
+     */
+    public Uni<WorstPlayerRankingResponse> getGameRanking(UUID gameId, UUID requesterUserId) {
+        return validateViewPermission(requesterUserId)
+                .chain(() -> reactiveWorstPlayerVoteRepository.existsGame(gameId))
+                .chain(exists -> {
+                    if (!exists) {
+                        return Uni.createFrom().failure(new ResourceNotFoundException("Jogo", "id", gameId));
+                    }
+                    return reactiveWorstPlayerVoteRepository.countByGameId(gameId);
+                })
+                .map(rows -> {
+                    List<WorstPlayerRankingItemResponse> items = toItems(rows);
+                    return WorstPlayerRankingResponse.builder()
+                            .gameId(gameId)
+                            .description("Ranking de pior do jogo")
+                            .items(items)
+                            .total(items.size())
+                            .build();
+                });
+    }
+
+    /**
+     * @param startDate data inicial no formato yyyy-MM-dd
+     * @param endDate data final no formato yyyy-MM-dd
+     * @param requesterUserId o ID do usuario que esta consultando
+     * @return WorstPlayerHistoricalRankingResponse com o ranking do intervalo
+     * @throws ResourceNotFoundException se o usuario nao for encontrado
+     * @throws ForbiddenException se o usuario nao for ADMIN ou JOGADOR
+     * @throws BusinessException se as datas forem invalidas
+     */
+    public Uni<WorstPlayerHistoricalRankingResponse> getHistoricalRanking(String startDate, String endDate, UUID requesterUserId) {
+        return validateViewPermission(requesterUserId)
+                .chain(() -> {
+                    OffsetDateTime start = WorstPlayerVotingService.parseStartDate(startDate);
+                    OffsetDateTime end = WorstPlayerVotingService.parseEndDate(endDate);
+                    if (end.isBefore(start)) {
+                        throw new BusinessException("Data final deve ser maior ou igual a data inicial");
+                    }
+                    return reactiveWorstPlayerVoteRepository.countByGameDateBetween(start, end);
+                })
+                .map(rows -> {
+                    List<WorstPlayerRankingItemResponse> items = toItems(rows);
+                    return WorstPlayerHistoricalRankingResponse.builder()
+                            .startDate(startDate)
+                            .endDate(endDate)
+                            .description("Ranking historico de pior do jogo por data do jogo")
+                            .items(items)
+                            .total(items.size())
+                            .build();
+                });
+    }
+
+    private Uni<Void> validateViewPermission(UUID userId) {
+        return reactiveUserRepository.findActiveProfileById(userId)
+                .invoke(profile -> {
+                    UserProfile userProfile = profile
+                            .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
+
+                    if (userProfile != UserProfile.ADMIN && userProfile != UserProfile.JOGADOR) {
+                        throw new ForbiddenException("Apenas ADMIN ou JOGADOR podem consultar esta operacao");
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    /**
+     * @param rows votos agregados ja ordenados por total de votos e nome
+     * @return itens do ranking com a posicao preenchida
+     */
+    private List<WorstPlayerRankingItemResponse> toItems(List<WorstPlayerVoteCountRow> rows) {
+        List<WorstPlayerRankingItemResponse> items = new ArrayList<>(rows.size());
+        for (WorstPlayerVoteCountRow row : rows) {
+            items.add(WorstPlayerRankingItemResponse.builder()
+                    .position(items.size() + 1)
+                    .gameId(row.gameId())
+                    .confirmationId(row.confirmationId())
+                    .userId(row.userId())
+                    .playerName(row.playerName())
+                    .votes(row.votes())
+                    .build());
+        }
+        return items;
+    }
+}
@@ -1,9 +1,11 @@
 package br.com.futebol.application.game;
 
+import br.com.futebol.core.concurrency.SingleFlight;
 import br.com.futebol.core.exceptions.BusinessException;
 import br.com.futebol.core.exceptions.ConflictException;
 import br.com.futebol.core.exceptions.ForbiddenException;
 import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.core.persistence.ReadOnly;
 import br.com.futebol.domain.game.Game;
 import br.com.futebol.domain.game.GameConfirmation;
 import br.com.futebol.domain.game.GameWorstPlayerVote;
@@ -21,6 +23,7 @@ import br.com.futebol.interfaces.game.WorstPlayerVoteRequest;
 import br.com.futebol.interfaces.game.WorstPlayerVoteResponse;
 import br.com.futebol.interfaces.game.WorstPlayerVotersResponse;
 import br.com.futebol.interfaces.game.WorstPlayerVotingStatusResponse;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -53,6 +56,9 @@ public class WorstPlayerVotingService {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    SingleFlight singleFlight;
+
     @Transactional
     public WorstPlayerVotingStatusResponse openVoting(UUID gameId, UUID requesterUserId) {
         validateAdminPermission(requesterUserId);
@@ -78,6 +84,7 @@ public class WorstPlayerVotingService {
         return toStatusResponse(game);
     }
 
+    @ReadOnly
     public List<WorstPlayerCandidateResponse> listCandidates(UUID gameId, UUID requesterUserId) {
         validateViewPermission(requesterUserId);
         findGame(gameId);
@@ -88,6 +95,7 @@ public class WorstPlayerVotingService {
     }
 
     @Transactional
+    @Timed(value = "futebol.worst-player.vote", description = "Tempo de registro do voto de pior do jogo")
     public WorstPlayerVoteResponse vote(UUID gameId, WorstPlayerVoteRequest request, UUID requesterUserId) {
         User voter = validateVoterPermission(requesterUserId);
         Game game = findGame(gameId);
@@ -121,13 +129,7 @@ public class WorstPlayerVotingService {
 
         gameWorstPlayerVoteRepository.persist(vote);
 
-        return WorstPlayerVoteResponse.builder()
-                .voteId(vote.getId())
-                .gameId(vote.getGameId())
-                .voterUserId(vote.getVoterUserId())
-                .targetConfirmationId(vote.getTargetConfirmationId())
-                .createdAt(vote.getCreatedAt())
-                .build();
+        return toVoteResponse(vote);
     }
 
     @Transactional
@@ -146,21 +148,25 @@ public class WorstPlayerVotingService {
         return toStatusResponse(game);
     }
 
+    @ReadOnly
     public WorstPlayerRankingResponse getGameRanking(UUID gameId, UUID requesterUserId) {
         validateViewPermission(requesterUserId);
         findGame(gameId);
 
-        List<GameWorstPlayerVote> votes = gameWorstPlayerVoteRepository.findByGameId(gameId);
-        List<WorstPlayerRankingItemResponse> items = buildRankingItems(votes);
+        return singleFlight.execute("worst-player.ranking", gameId, () -> {
+            List<GameWorstPlayerVote> votes = gameWorstPlayerVoteRepository.findByGameId(gameId);
+            List<WorstPlayerRankingItemResponse> items = buildRankingItems(votes);
 
-        return WorstPlayerRankingResponse.builder()
-                .gameId(gameId)
-                .description("Ranking de pior do jogo")
-                .items(items)
-                .total(items.size())
-                .build();
+            return WorstPlayerRankingResponse.builder()
+                    .gameId(gameId)
+                    .description("Ranking de pior do jogo")
+                    .items(items)
+                    .total(items.size())
+                    .build();
+        });
     }
 
+    @ReadOnly
     public WorstPlayerHistoricalRankingResponse getHistoricalRanking(String startDate, String endDate, UUID requesterUserId) {
         validateViewPermission(requesterUserId);
 
@@ -170,20 +176,23 @@ public class WorstPlayerVotingService {
             throw new BusinessException("Data final deve ser maior ou igual a data inicial");
         }
 
-        List<Game> games = gameRepository.findByGameDateBetween(start, end);
-        List<UUID> gameIds = games.stream().map(Game::getId).toList();
-        List<GameWorstPlayerVote> votes = gameWorstPlayerVoteRepository.findByGameIds(gameIds);
-        List<WorstPlayerRankingItemResponse> items = buildRankingItems(votes);
-
-        return WorstPlayerHistoricalRankingResponse.builder()
-                .startDate(startDate)
-                .endDate(endDate)
-                .description("Ranking historico de pior do jogo por data do jogo")
-                .items(items)
-                .total(items.size())
-                .build();
+        return singleFlight.execute("worst-player.history", startDate + "/" + endDate, () -> {
+            List<Game> games = gameRepository.findByGameDateBetween(start, end);
+            List<UUID> gameIds = games.stream().map(Game::getId).toList();
+            List<GameWorstPlayerVote> votes = gameWorstPlayerVoteRepository.findByGameIds(gameIds);
+            List<WorstPlayerRankingItemResponse> items = buildRankingItems(votes);
+
+            return WorstPlayerHistoricalRankingResponse.builder()
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .description("Ranking historico de pior do jogo por data do jogo")
+                    .items(items)
+                    .total(items.size())
+                    .build();
+        });
     }
 
+    @ReadOnly
     public WorstPlayerVotersResponse getVotersByPlayer(UUID gameId, UUID confirmationId, UUID requesterUserId) {
         validateViewPermission(requesterUserId);
         findGame(gameId);
@@ -217,7 +226,7 @@ public class WorstPlayerVotingService {
         return toStatusResponse(findGame(gameId));
     }
 
-    private List<WorstPlayerRankingItemResponse> buildRankingItems(List<GameWorstPlayerVote> votes) {
+    List<WorstPlayerRankingItemResponse> buildRankingItems(List<GameWorstPlayerVote> votes) {
         if (votes.isEmpty()) {
             return List.of();
         }
@@ -254,6 +263,20 @@ public class WorstPlayerVotingService {
         return items;
     }
 
+    /**
+     * @param vote a entidade GameWorstPlayerVote
+     * @return WorstPlayerVoteResponse
+     */
+    public static WorstPlayerVoteResponse toVoteResponse(GameWorstPlayerVote vote) {
+        return WorstPlayerVoteResponse.builder()
+                .voteId(vote.getId())
+                .gameId(vote.getGameId())
+                .voterUserId(vote.getVoterUserId())
+                .targetConfirmationId(vote.getTargetConfirmationId())
+                .createdAt(vote.getCreatedAt())
+                .build();
+    }
+
     private WorstPlayerCandidateResponse toCandidateResponse(GameConfirmation confirmation) {
         return WorstPlayerCandidateResponse.builder()
                 .confirmationId(confirmation.getId())
@@ -262,7 +285,11 @@ public class WorstPlayerVotingService {
                 .build();
     }
 
-    private WorstPlayerVotingStatusResponse toStatusResponse(Game game) {
+    /**
+     * @param game a entidade Game
+     * @return WorstPlayerVotingStatusResponse
+     */
+    public static WorstPlayerVotingStatusResponse toStatusResponse(Game game) {
         return WorstPlayerVotingStatusResponse.builder()
                 .gameId(game.getId())
                 .votingEnabled(game.getWorstPlayerVotingEnabled())
@@ -305,7 +332,7 @@ public class WorstPlayerVotingService {
         return user;
     }
 
-    private OffsetDateTime parseStartDate(String startDate) {
+    static OffsetDateTime parseStartDate(String startDate) {
         try {
             return LocalDate.parse(startDate).atStartOfDay().atOffset(ZoneOffset.UTC);
         } catch (Exception e) {
@@ -313,7 +340,7 @@ public class WorstPlayerVotingService {
         }
     }
 
-    private OffsetDateTime parseEndDate(String endDate) {
+    static OffsetDateTime parseEndDate(String endDate) {
         try {
             return OffsetDateTime.of(LocalDate.parse(endDate), LocalTime.MAX, ZoneOffset.UTC);
         } catch (Exception e) {
@@ -0,0 +1,132 @@
+package br.com.futebol.application.sync;
+
+import br.com.futebol.application.game.GameConfirmationService;
+import br.com.futebol.application.game.GameService;
+import br.com.futebol.application.game.WorstPlayerVotingService;
+import br.com.futebol.application.user.UserStatisticsService;
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.domain.sync.SyncTombstone;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameConfirmationRow;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.GameWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.sync.SyncTombstoneRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import br.com.futebol.interfaces.sync.SyncResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sincronizacao incremental para os clientes moveis: devolve apenas o que mudou desde o ultimo watermark.
+ *
+ * <p>Roda no primario (sem {@code @ReadOnly}): com o atraso da replica, linhas anteriores ao watermark
+ * ainda nao replicadas seriam perdidas. O watermark e o inicio da transacao mais antiga ainda aberta
+ * (os triggers gravam o inicio da transacao em updated_at), recuado de {@code futebol.sync.overlap}
+ * para cobrir o timestamp de insercao gerado pela aplicacao; por isso o cliente pode receber de novo
+ * um item ja sincronizado e deve aplicar as alteracoes por ID.
+ *
+ * <p>Os dados seguem as regras dos endpoints de origem: jogos publicos e, para JOGADOR, apenas as
+ * confirmacoes (e exclusoes) dele ou dos convidados que ele confirmou; a lista completa fica para
+ * ADMIN/SUPER_ADMIN. Jogos e confirmacoes sao limitados aos jogos a partir de
+ * {@code futebol.sync.game-window} atras, o que tambem limita a carga completa.
+ *
+ * <p>Exclusoes sao mantidas por {@link #TOMBSTONE_RETENTION} (V17); um watermark mais antigo recebe a
+ * carga completa com {@code fullSync = true} e o cliente substitui os dados locais.
+ */
+@ApplicationScoped
+public class SyncService {
+
+    static final OffsetDateTime FULL_SYNC = Instant.EPOCH.atOffset(ZoneOffset.UTC);
+
+    /** Mesmo intervalo usado pelo trigger record_sync_tombstone para descartar exclusoes antigas. */
+    static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    GameRepository gameRepository;
+
+    @Inject
+    GameConfirmationRepository gameConfirmationRepository;
+
+    @Inject
+    UserStatisticsRepository userStatisticsRepository;
+
+    @Inject
+    GameWorstPlayerVoteRepository gameWorstPlayerVoteRepository;
+
+    @Inject
+    SyncTombstoneRepository syncTombstoneRepository;
+
+    @ConfigProperty(name = "futebol.sync.overlap", defaultValue = "5S")
+    Duration overlap;
+
+    @ConfigProperty(name = "futebol.sync.game-window", defaultValue = "30D")
+    Duration gameWindow;
+
+    /**
+     * @param userId o ID do usuario autenticado
+     * @param since o watermark devolvido na sincronizacao anterior, ou null para a carga completa
+     * @return jogos e confirmacoes alterados, estatisticas e votos do usuario, IDs removidos (exceto na carga
+     *         completa) e o novo watermark
+     * @throws ResourceNotFoundException se o usuario nao for encontrado
+     */
+    @Transactional
+    public SyncResponse sync(UUID userId, OffsetDateTime since) {
+        User user = userRepository.findActiveById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
+        boolean admin = user.getProfile() == UserProfile.ADMIN || user.getProfile() == UserProfile.SUPER_ADMIN;
+
+        // Lido antes das consultas: o que for gravado durante a sincronizacao entra na proxima
+        OffsetDateTime transactionStart = syncTombstoneRepository.oldestActiveTransactionStart();
+        OffsetDateTime watermark = transactionStart.minus(overlap);
+        OffsetDateTime gameDateFrom = transactionStart.minus(gameWindow);
+        // Exclusoes anteriores a retencao ja foram descartadas: o cliente precisa da carga completa
+        boolean fullSync = since == null || since.isBefore(transactionStart.minus(TOMBSTONE_RETENTION));
+        OffsetDateTime from = fullSync ? FULL_SYNC : since;
+
+        List<GameConfirmationRow> confirmations = admin
+                ? gameConfirmationRepository.findRowsUpdatedSince(from, gameDateFrom)
+                : gameConfirmationRepository.findRowsUpdatedSinceAndUserRelated(from, gameDateFrom, userId);
+
+        SyncResponse.SyncResponseBuilder response = SyncResponse.builder()
+                .watermark(watermark)
+                .fullSync(fullSync)
+                .games(gameRepository.findUpdatedSince(from, gameDateFrom).stream()
+                        .map(GameService::toResponse)
+                        .toList())
+                .confirmations(confirmations.stream()
+                        .map(GameConfirmationService::toResponse)
+                        .toList())
+                .statistics(userStatisticsRepository.findByUserIdUpdatedSince(userId, from)
+                        .map(UserStatisticsService::toResponse)
+                        .orElse(null))
+                .votes(gameWorstPlayerVoteRepository.findByVoterUserIdUpdatedSince(userId, from).stream()
+                        .map(WorstPlayerVotingService::toVoteResponse)
+                        .toList());
+
+        // Na carga completa nao ha o que remover no cliente
+        if (!fullSync) {
+            response.deletedGameIds(syncTombstoneRepository.findDeletedIdsSince(SyncTombstone.GAMES, from))
+                    .deletedConfirmationIds(admin
+                            ? syncTombstoneRepository.findDeletedIdsSince(SyncTombstone.GAME_CONFIRMATIONS, from)
+                            : syncTombstoneRepository.findDeletedIdsSinceForUser(SyncTombstone.GAME_CONFIRMATIONS, from, userId))
+                    .deletedVoteIds(syncTombstoneRepository.findDeletedIdsSinceForUser(
+                            SyncTombstone.GAME_WORST_PLAYER_VOTES, from, userId));
+        }
+        return response.build();
+    }
+}
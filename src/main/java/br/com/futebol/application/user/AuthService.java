@@ -7,6 +7,7 @@ import br.com.futebol.domain.user.User;
 import br.com.futebol.infrastructure.user.UserRepository;
 import br.com.futebol.interfaces.auth.LoginRequest;
 import br.com.futebol.interfaces.auth.LoginResponse;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,7 @@ public class AuthService {
      * @return LoginResponse com o token JWT
      * @throws UnauthorizedException se as credenciais forem invalidas
      */
+    @Timed(value = "futebol.auth.login", description = "Tempo de autenticacao do usuario")
     public LoginResponse login(LoginRequest request) {
         log.info("Tentativa de login para o email: {}", request.getEmail());
 
@@ -0,0 +1,104 @@
+package br.com.futebol.application.user;
+
+import br.com.futebol.infrastructure.user.RankingRow;
+import br.com.futebol.infrastructure.user.ReactiveUserStatisticsRepository;
+import br.com.futebol.interfaces.user.RankingItemResponse;
+import br.com.futebol.interfaces.user.RankingResponse;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Versao reativa das consultas de ranking do {@link UserStatisticsService}.
+ * Cada ranking e resolvido em uma unica consulta, sem bloquear o event loop.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveUserStatisticsService {
+
+    @Inject
+    ReactiveUserStatisticsRepository reactiveUserStatisticsRepository;
+
+    /**
+     * @return RankingResponse com ranking de gols
+     */
+    public Uni<RankingResponse> getRankingByGoals() {
+        return getRanking("goals", "goals", "Ranking de Gols");
+    }
+
+    /**
+     * @return RankingResponse com ranking de reclamacoes
+     */
+    public Uni<RankingResponse> getRankingByComplaints() {
+        return getRanking("complaints", "complaints", "Ranking de Reclamacoes");
+    }
+
+    /**
+     * @return RankingResponse com ranking de vitorias
+     */
+    public Uni<RankingResponse> getRankingByVictories() {
+        return getRanking("victories", "victories", "Ranking de Vitorias");
+    }
+
+    /**
+     * @return RankingResponse com ranking de empates
+     */
+    public Uni<RankingResponse> getRankingByDraws() {
+        return getRanking("draws", "draws", "Ranking de Empates");
+    }
+
+    /**
+     * @return RankingResponse com ranking de derrotas
+     */
+    public Uni<RankingResponse> getRankingByDefeats() {
+        return getRanking("defeats", "defeats", "Ranking de Derrotas");
+    }
+
+    /**
+     * @return RankingResponse com ranking de minutos jogados
+     */
+    public Uni<RankingResponse> getRankingByMinutesPlayed() {
+        return getRanking("minutes", "minutes-played", "Ranking de Minutos Jogados");
+    }
+
+    /**
+     * @param type tipo de ranking usado na consulta
+     * @param responseType tipo de ranking devolvido na resposta
+     * @param description descricao do ranking
+     * @return RankingResponse montado a partir das linhas do repositorio
+     */
+    private Uni<RankingResponse> getRanking(String type, String responseType, String description) {
+        return reactiveUserStatisticsRepository.findRanking(type)
+                .map(rows -> {
+                    List<RankingItemResponse> items = rows.stream()
+                            .map(row -> toItem(row, type))
+                            .toList();
+
+                    return RankingResponse.builder()
+                            .type(responseType)
+                            .description(description)
+                            .items(items)
+                            .total(items.size())
+                            .build();
+                });
+    }
+
+    private RankingItemResponse toItem(RankingRow row, String type) {
+        String formattedValue = "minutes".equals(type)
+                ? UserStatisticsService.formatDuration(Duration.ofSeconds(row.value()))
+                : String.valueOf(row.value());
+
+        return RankingItemResponse.builder()
+                .position(row.position())
+                .userId(row.userId())
+                .userName(row.userName())
+                .userEmail(row.userEmail())
+                .value(row.value())
+                .formattedValue(formattedValue)
+                .build();
+    }
+}
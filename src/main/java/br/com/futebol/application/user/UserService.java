@@ -2,10 +2,12 @@ package br.com.futebol.application.user;
 
 import br.com.futebol.core.exceptions.BusinessException;
 import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.core.persistence.ReadOnly;
 import br.com.futebol.core.security.PasswordService;
 import br.com.futebol.domain.user.User;
 import br.com.futebol.domain.user.UserProfile;
 import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserRow;
 import br.com.futebol.interfaces.user.CreateUserRequest;
 import br.com.futebol.interfaces.user.UpdateUserRequest;
 import br.com.futebol.interfaces.user.UserResponse;
@@ -30,8 +32,9 @@ public class UserService {
     /**
      * @return lista de UserResponse
      */
+    @ReadOnly
     public List<UserResponse> findAll() {
-        return userRepository.findAllActive().stream()
+        return userRepository.findAllActiveRows().stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
@@ -166,5 +169,22 @@ public class UserService {
                 .updatedAt(user.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * @param row a projecao do usuario
+     * @return UserResponse
+     */
+    private UserResponse toResponse(UserRow row) {
+        return UserResponse.builder()
+                .id(row.id())
+                .fullName(row.fullName())
+                .email(row.email())
+                .photo(row.photo())
+                .profile(row.profile())
+                .active(row.active())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
 }
 
@@ -1,28 +1,39 @@
 package br.com.futebol.application.user;
 
+import br.com.futebol.core.concurrency.SingleFlight;
 import br.com.futebol.core.exceptions.BusinessException;
 import br.com.futebol.core.exceptions.ResourceNotFoundException;
 import br.com.futebol.core.exceptions.UnauthorizedException;
+import br.com.futebol.core.http.Versioned;
+import br.com.futebol.core.persistence.ReadOnly;
 import br.com.futebol.domain.user.User;
 import br.com.futebol.domain.user.UserProfile;
 import br.com.futebol.domain.user.UserStatistics;
+import br.com.futebol.infrastructure.user.RankingStatisticsRow;
 import br.com.futebol.infrastructure.user.UserRepository;
 import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import br.com.futebol.interfaces.user.BatchStatisticsResponse;
 import br.com.futebol.interfaces.user.RankingItemResponse;
 import br.com.futebol.interfaces.user.RankingResponse;
 import br.com.futebol.interfaces.user.UpdateStatisticsRequest;
 import br.com.futebol.interfaces.user.UserStatisticsResponse;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @ApplicationScoped
 public class UserStatisticsService {
@@ -33,6 +44,9 @@ public class UserStatisticsService {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    SingleFlight singleFlight;
+
     /**
      * @param userId o ID do usuario
      * @return UserStatisticsResponse com os dados das estatisticas
@@ -48,7 +62,7 @@ public class UserStatisticsService {
         }
 
         return userStatisticsRepository.findByUserId(userId)
-                .map(this::toResponse);
+                .map(UserStatisticsService::toResponse);
     }
 
     /**
@@ -59,6 +73,40 @@ public class UserStatisticsService {
         return findByUserId(userId);
     }
 
+    /**
+     * Substitui uma chamada por jogador nas telas de administracao: uma unica consulta para todos os IDs.
+     *
+     * @param authenticatedUserId o ID do usuario autenticado
+     * @param userIds os IDs dos usuarios (repetidos sao ignorados)
+     * @return estatisticas por userId e os IDs sem estatisticas
+     * @throws UnauthorizedException se o usuario nao for ADMIN ou SUPER_ADMIN
+     */
+    @ReadOnly
+    public BatchStatisticsResponse findByUserIds(UUID authenticatedUserId, List<UUID> userIds) {
+        validateAdminPermission(authenticatedUserId, "Apenas ADMIN pode consultar estatisticas de outros usuarios");
+
+        Set<UUID> requested = new LinkedHashSet<>(userIds);
+        Map<UUID, UserStatisticsResponse> found = userStatisticsRepository.findByActiveUserIds(requested).stream()
+                .collect(Collectors.toMap(UserStatistics::getUserId, UserStatisticsService::toResponse));
+
+        Map<UUID, UserStatisticsResponse> statistics = new LinkedHashMap<>();
+        List<UUID> missingUserIds = new ArrayList<>();
+        for (UUID userId : requested) {
+            UserStatisticsResponse response = found.get(userId);
+            if (response != null) {
+                statistics.put(userId, response);
+            } else {
+                missingUserIds.add(userId);
+            }
+        }
+
+        return BatchStatisticsResponse.builder()
+                .statistics(statistics)
+                .missingUserIds(missingUserIds)
+                .total(statistics.size())
+                .build();
+    }
+
     /**
      * @param authenticatedUserId o ID do usuario autenticado
      * @param targetUserId o ID do usuario alvo
@@ -230,11 +278,15 @@ public class UserStatisticsService {
      * @throws UnauthorizedException se o usuario não for ADMIN ou SUPER_ADMIN
      */
     private void validateAdminPermission(UUID userId) {
+        validateAdminPermission(userId, "Apenas ADMIN pode atualizar estatisticas");
+    }
+
+    private void validateAdminPermission(UUID userId, String message) {
         User user = userRepository.findActiveById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", "id", userId));
 
         if (user.getProfile() != UserProfile.ADMIN && user.getProfile() != UserProfile.SUPER_ADMIN) {
-            throw new UnauthorizedException("Apenas ADMIN pode atualizar estatisticas");
+            throw new UnauthorizedException(message);
         }
     }
 
@@ -288,7 +340,7 @@ public class UserStatisticsService {
      * @return Duration
      * @throws BusinessException se o formato for invalido
      */
-    private Duration parseDuration(String timeString) {
+    static Duration parseDuration(String timeString) {
         if (timeString == null || timeString.isBlank()) {
             return Duration.ZERO;
         }
@@ -325,7 +377,7 @@ public class UserStatisticsService {
      * @param duration a duracao
      * @return string formatada
      */
-    private String formatDuration(Duration duration) {
+    public static String formatDuration(Duration duration) {
         if (duration == null || duration.isNegative()) {
             return "00:00:00";
         }
@@ -339,167 +391,136 @@ public class UserStatisticsService {
     }
 
     /**
-     * @return RankingResponse com ranking de gols
+     * Usada apenas para responder 304; o ETag enviado com o corpo vem de {@link Versioned#version()}.
+     *
+     * @return a versao atual dos dados dos rankings
      */
-    public RankingResponse getRankingByGoals() {
-        List<UserStatistics> statistics = userStatisticsRepository.findRankingByGoals();
-        List<RankingItemResponse> items = buildRankingItems(statistics, "goals");
-        
-        return RankingResponse.builder()
-                .type("goals")
-                .description("Ranking de Gols")
-                .items(items)
-                .total(items.size())
-                .build();
+    @ReadOnly
+    public String getRankingVersion() {
+        return userStatisticsRepository.findRankingVersion();
     }
 
     /**
-     * @return RankingResponse com ranking de reclamacoes
+     * @return RankingResponse com ranking de gols e a versao dos dados lida antes dele
      */
-    public RankingResponse getRankingByComplaints() {
-        List<UserStatistics> statistics = userStatisticsRepository.findRankingByComplaints();
-        List<RankingItemResponse> items = buildRankingItems(statistics, "complaints");
-        
-        return RankingResponse.builder()
-                .type("complaints")
-                .description("Ranking de Reclamacoes")
-                .items(items)
-                .total(items.size())
-                .build();
+    @ReadOnly
+    @Timed(value = "futebol.ranking.build", extraTags = {"type", "goals"}, description = "Tempo de montagem do ranking de estatisticas")
+    public Versioned<RankingResponse> getRankingByGoals() {
+        return singleFlight.execute("ranking", "goals",
+                () -> buildRanking("goals", "Ranking de Gols", "goals", userStatisticsRepository::findRankingByGoals));
     }
 
     /**
-     * @return RankingResponse com ranking de vitorias
+     * @return RankingResponse com ranking de reclamacoes e a versao dos dados lida antes dele
      */
-    public RankingResponse getRankingByVictories() {
-        List<UserStatistics> statistics = userStatisticsRepository.findRankingByVictories();
-        List<RankingItemResponse> items = buildRankingItems(statistics, "victories");
-        
-        return RankingResponse.builder()
-                .type("victories")
-                .description("Ranking de Vitorias")
-                .items(items)
-                .total(items.size())
-                .build();
+    @ReadOnly
+    @Timed(value = "futebol.ranking.build", extraTags = {"type", "complaints"}, description = "Tempo de montagem do ranking de estatisticas")
+    public Versioned<RankingResponse> getRankingByComplaints() {
+        return singleFlight.execute("ranking", "complaints",
+                () -> buildRanking("complaints", "Ranking de Reclamacoes", "complaints", userStatisticsRepository::findRankingByComplaints));
     }
 
     /**
-     * @return RankingResponse com ranking de empates
+     * @return RankingResponse com ranking de vitorias e a versao dos dados lida antes dele
      */
-    public RankingResponse getRankingByDraws() {
-        List<UserStatistics> statistics = userStatisticsRepository.findRankingByDraws();
-        List<RankingItemResponse> items = buildRankingItems(statistics, "draws");
-        
-        return RankingResponse.builder()
-                .type("draws")
-                .description("Ranking de Empates")
-                .items(items)
-                .total(items.size())
-                .build();
+    @ReadOnly
+    @Timed(value = "futebol.ranking.build", extraTags = {"type", "victories"}, description = "Tempo de montagem do ranking de estatisticas")
+    public Versioned<RankingResponse> getRankingByVictories() {
+        return singleFlight.execute("ranking", "victories",
+                () -> buildRanking("victories", "Ranking de Vitorias", "victories", userStatisticsRepository::findRankingByVictories));
     }
 
     /**
-     * @return RankingResponse com ranking de derrotas
+     * @return RankingResponse com ranking de empates e a versao dos dados lida antes dele
      */
-    public RankingResponse getRankingByDefeats() {
-        List<UserStatistics> statistics = userStatisticsRepository.findRankingByDefeats();
-        List<RankingItemResponse> items = buildRankingItems(statistics, "defeats");
-        
-        return RankingResponse.builder()
-                .type("defeats")
-                .description("Ranking de Derrotas")
-                .items(items)
-                .total(items.size())
-                .build();
+    @ReadOnly
+    @Timed(value = "futebol.ranking.build", extraTags = {"type", "draws"}, description = "Tempo de montagem do ranking de estatisticas")
+    public Versioned<RankingResponse> getRankingByDraws() {
+        return singleFlight.execute("ranking", "draws",
+                () -> buildRanking("draws", "Ranking de Empates", "draws", userStatisticsRepository::findRankingByDraws));
+    }
+
+    /**
+     * @return RankingResponse com ranking de derrotas e a versao dos dados lida antes dele
+     */
+    @ReadOnly
+    @Timed(value = "futebol.ranking.build", extraTags = {"type", "defeats"}, description = "Tempo de montagem do ranking de estatisticas")
+    public Versioned<RankingResponse> getRankingByDefeats() {
+        return singleFlight.execute("ranking", "defeats",
+                () -> buildRanking("defeats", "Ranking de Derrotas", "defeats", userStatisticsRepository::findRankingByDefeats));
+    }
+
+    /**
+     * @return RankingResponse com ranking de minutos jogados e a versao dos dados lida antes dele
+     */
+    @ReadOnly
+    @Timed(value = "futebol.ranking.build", extraTags = {"type", "minutes-played"}, description = "Tempo de montagem do ranking de estatisticas")
+    public Versioned<RankingResponse> getRankingByMinutesPlayed() {
+        return singleFlight.execute("ranking", "minutes-played",
+                () -> buildRanking("minutes-played", "Ranking de Minutos Jogados", "minutes", userStatisticsRepository::findRankingByMinutesPlayed));
     }
 
     /**
-     * @return RankingResponse com ranking de minutos jogados
+     * A versao e lida antes das linhas, na mesma execucao: se os dados mudarem entre as duas leituras,
+     * o ETag fica mais antigo que o corpo e o cliente apenas baixa o ranking de novo.
+     *
+     * @param type tipo do ranking na resposta
+     * @param description descricao do ranking
+     * @param itemType tipo usado na formatacao dos valores
+     * @param query consulta das linhas do ranking
+     * @return o ranking com a versao dos dados
      */
-    public RankingResponse getRankingByMinutesPlayed() {
-        List<UserStatistics> statistics = userStatisticsRepository.findRankingByMinutesPlayed();
-        List<RankingItemResponse> items = buildRankingItems(statistics, "minutes");
-        
-        return RankingResponse.builder()
-                .type("minutes-played")
-                .description("Ranking de Minutos Jogados")
+    private Versioned<RankingResponse> buildRanking(String type, String description, String itemType,
+                                                    Supplier<List<RankingStatisticsRow>> query) {
+        String version = userStatisticsRepository.findRankingVersion();
+        List<RankingItemResponse> items = buildRankingItems(query.get(), itemType);
+
+        return new Versioned<>(version, RankingResponse.builder()
+                .type(type)
+                .description(description)
                 .items(items)
                 .total(items.size())
-                .build();
+                .build());
     }
 
     /**
-     * @param statistics lista de estatisticas ordenadas
+     * A posicao considera todas as linhas; usuarios ausentes, inativos ou fora dos perfis ADMIN e JOGADOR
+     * sao omitidos depois da numeracao.
+     *
+     * @param rows linhas do ranking ordenadas
      * @param type tipo de ranking (goals, complaints, victories, etc)
      * @return lista de RankingItemResponse
      */
-    private List<RankingItemResponse> buildRankingItems(List<UserStatistics> statistics, String type) {
-        return IntStream.range(0, statistics.size())
-                .mapToObj(index -> {
-                    UserStatistics stat = statistics.get(index);
-                    Optional<User> userOpt = userRepository.findActiveById(stat.getUserId());
-                    
-                    if (userOpt.isEmpty()) {
-                        return null;
-                    }
-                    
-                    User user = userOpt.get();
-                    
-                    if (user.getProfile() != UserProfile.ADMIN && user.getProfile() != UserProfile.JOGADOR) {
-                        return null;
-                    }
-                    
-                    long value;
-                    String formattedValue;
-                    
-                    switch (type) {
-                        case "goals":
-                            value = stat.getGoals();
-                            formattedValue = String.valueOf(stat.getGoals());
-                            break;
-                        case "complaints":
-                            value = stat.getComplaints();
-                            formattedValue = String.valueOf(stat.getComplaints());
-                            break;
-                        case "victories":
-                            value = stat.getVictories();
-                            formattedValue = String.valueOf(stat.getVictories());
-                            break;
-                        case "draws":
-                            value = stat.getDraws();
-                            formattedValue = String.valueOf(stat.getDraws());
-                            break;
-                        case "defeats":
-                            value = stat.getDefeats();
-                            formattedValue = String.valueOf(stat.getDefeats());
-                            break;
-                        case "minutes":
-                            value = stat.getMinutesPlayed().getSeconds();
-                            formattedValue = formatDuration(stat.getMinutesPlayed());
-                            break;
-                        default:
-                            value = 0;
-                            formattedValue = "0";
-                    }
-                    
-                    return RankingItemResponse.builder()
-                            .position(index + 1)
-                            .userId(user.getId())
-                            .userName(user.getFullName())
-                            .userEmail(user.getEmail())
-                            .value(value)
-                            .formattedValue(formattedValue)
-                            .build();
-                })
-                .filter(item -> item != null)
-                .collect(Collectors.toList());
+    List<RankingItemResponse> buildRankingItems(List<RankingStatisticsRow> rows, String type) {
+        boolean minutes = "minutes".equals(type);
+        List<RankingItemResponse> items = new ArrayList<>(rows.size());
+        for (int index = 0; index < rows.size(); index++) {
+            RankingStatisticsRow row = rows.get(index);
+            if (!row.isRanked()) {
+                continue;
+            }
+
+            String formattedValue = minutes
+                    ? formatDuration(Duration.ofSeconds(row.value()))
+                    : String.valueOf(row.value());
+
+            items.add(RankingItemResponse.builder()
+                    .position(index + 1)
+                    .userId(row.userId())
+                    .userName(row.userName())
+                    .userEmail(row.userEmail())
+                    .value(row.value())
+                    .formattedValue(formattedValue)
+                    .build());
+        }
+        return items;
     }
 
     /**
      * @param statistics a entidade UserStatistics
      * @return UserStatisticsResponse
      */
-    private UserStatisticsResponse toResponse(UserStatistics statistics) {
+    public static UserStatisticsResponse toResponse(UserStatistics statistics) {
         return UserStatisticsResponse.builder()
                 .id(statistics.getId())
                 .userId(statistics.getUserId())
@@ -1,21 +1,42 @@
 package br.com.futebol.config;
 
-import jakarta.annotation.Priority;
+import io.quarkus.vertx.http.runtime.filters.Filters;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerRequestFilter;
-import jakarta.ws.rs.container.ContainerResponseContext;
-import jakarta.ws.rs.container.ContainerResponseFilter;
-import jakarta.ws.rs.core.MultivaluedMap;
-import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.ext.Provider;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-@Provider
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * CORS tratado na camada HTTP (Vert.x), antes da autenticacao e do dispatch JAX-RS.
+ * As origens permitidas e os valores dos headers sao calculados uma unica vez na inicializacao.
+ */
 @ApplicationScoped
-@Priority(1)
-public class CorsConfig implements ContainerRequestFilter, ContainerResponseFilter {
+public class CorsConfig {
+
+    /**
+     * Filtros com prioridade maior executam antes; a autenticacao do Quarkus roda com prioridade 200,
+     * entao o preflight e respondido sem passar pela autenticacao.
+     */
+    static final int FILTER_PRIORITY = 400;
+
+    private static final CharSequence ALLOW_ORIGIN = HttpHeaders.createOptimized("Access-Control-Allow-Origin");
+    private static final CharSequence ALLOW_METHODS = HttpHeaders.createOptimized("Access-Control-Allow-Methods");
+    private static final CharSequence ALLOW_HEADERS = HttpHeaders.createOptimized("Access-Control-Allow-Headers");
+    private static final CharSequence EXPOSE_HEADERS = HttpHeaders.createOptimized("Access-Control-Expose-Headers");
+    private static final CharSequence MAX_AGE = HttpHeaders.createOptimized("Access-Control-Max-Age");
+    private static final CharSequence ALLOW_CREDENTIALS = HttpHeaders.createOptimized("Access-Control-Allow-Credentials");
+    private static final CharSequence WILDCARD = HttpHeaders.createOptimized("*");
+    private static final CharSequence TRUE = HttpHeaders.createOptimized("true");
 
     @Inject
     @ConfigProperty(name = "cors.allowed-origins", defaultValue = "*")
@@ -41,79 +62,80 @@ public class CorsConfig implements ContainerRequestFilter, ContainerResponseFilt
     @ConfigProperty(name = "cors.max-age", defaultValue = "3600")
     int maxAge;
 
-    @Override
-    public void filter(ContainerRequestContext requestContext) {
-        if ("OPTIONS".equalsIgnoreCase(requestContext.getMethod())) {
-            Response.ResponseBuilder responseBuilder = Response.ok();
-
-            String origin = requestContext.getHeaderString("Origin");
-            boolean allowAll = "*".equals(allowedOrigins != null ? allowedOrigins.trim() : "");
-            if (origin != null && !origin.isEmpty()) {
-                if (allowAll) {
-                    responseBuilder.header("Access-Control-Allow-Origin", "*");
-                } else if (isOriginAllowed(origin)) {
-                    responseBuilder.header("Access-Control-Allow-Origin", origin);
-                }
-            } else if (allowAll) {
-                responseBuilder.header("Access-Control-Allow-Origin", "*");
-            }
-
-            responseBuilder.header("Access-Control-Allow-Methods", allowedMethods);
-            responseBuilder.header("Access-Control-Allow-Headers", allowedHeaders);
-            responseBuilder.header("Access-Control-Expose-Headers", exposedHeaders);
-            responseBuilder.header("Access-Control-Max-Age", maxAge);
-
-            if (allowCredentials && !allowAll && origin != null && isOriginAllowed(origin)) {
-                responseBuilder.header("Access-Control-Allow-Credentials", "true");
-            }
-
-            requestContext.abortWith(responseBuilder.build());
-        }
+    private boolean allowAll;
+    private Set<String> allowedOriginSet;
+    private CharSequence allowedMethodsValue;
+    private CharSequence allowedHeadersValue;
+    private CharSequence exposedHeadersValue;
+    private CharSequence maxAgeValue;
+
+    @PostConstruct
+    void init() {
+        String origins = allowedOrigins != null ? allowedOrigins.trim() : "";
+        allowAll = "*".equals(origins);
+        allowedOriginSet = parseOrigins(origins);
+        allowedMethodsValue = HttpHeaders.createOptimized(allowedMethods);
+        allowedHeadersValue = HttpHeaders.createOptimized(allowedHeaders);
+        exposedHeadersValue = HttpHeaders.createOptimized(exposedHeaders);
+        maxAgeValue = HttpHeaders.createOptimized(String.valueOf(maxAge));
     }
 
-    @Override
-    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
-        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+    void registerFilter(@Observes Filters filters) {
+        filters.register(this::handle, FILTER_PRIORITY);
+    }
 
-        String origin = requestContext.getHeaderString("Origin");
-        boolean allowAll = "*".equals(allowedOrigins != null ? allowedOrigins.trim() : "");
+    void handle(RoutingContext context) {
+        HttpServerRequest request = context.request();
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        boolean originAllowed = isOriginAllowed(origin);
+        MultiMap headers = context.response().headers();
 
         if (allowAll) {
-            headers.add("Access-Control-Allow-Origin", "*");
-        } else if (origin != null && isOriginAllowed(origin)) {
-            headers.add("Access-Control-Allow-Origin", origin);
+            headers.set(ALLOW_ORIGIN, WILDCARD);
+        } else if (originAllowed) {
+            headers.set(ALLOW_ORIGIN, origin);
+            headers.add(HttpHeaders.VARY, HttpHeaders.ORIGIN);
         }
 
-        headers.add("Access-Control-Allow-Methods", allowedMethods);
-        headers.add("Access-Control-Allow-Headers", allowedHeaders);
-        headers.add("Access-Control-Expose-Headers", exposedHeaders);
-        headers.add("Access-Control-Max-Age", maxAge);
-
-        if (allowCredentials && !allowAll) {
-            headers.add("Access-Control-Allow-Credentials", "true");
+        if (allowCredentials && !allowAll && originAllowed) {
+            headers.set(ALLOW_CREDENTIALS, TRUE);
         }
 
-        if ("OPTIONS".equalsIgnoreCase(requestContext.getMethod())) {
-            responseContext.setStatus(200);
+        headers.set(EXPOSE_HEADERS, exposedHeadersValue);
+
+        if (request.method() == HttpMethod.OPTIONS) {
+            headers.set(ALLOW_METHODS, allowedMethodsValue);
+            headers.set(ALLOW_HEADERS, allowedHeadersValue);
+            headers.set(MAX_AGE, maxAgeValue);
+            context.response().setStatusCode(200).end();
+            return;
         }
+
+        context.next();
     }
 
-    private boolean isOriginAllowed(String origin) {
-        if (origin == null || origin.isEmpty() || allowedOrigins == null) {
+    /**
+     * @param origin valor do header Origin
+     * @return true se a origem estiver na lista de origens permitidas
+     */
+    boolean isOriginAllowed(String origin) {
+        if (origin == null || origin.isEmpty()) {
             return false;
         }
+        return allowAll || allowedOriginSet.contains(origin);
+    }
 
-        if ("*".equals(allowedOrigins.trim())) {
-            return true;
-        }
-
-        String[] allowedOriginsList = allowedOrigins.split(",");
-        for (String allowedOrigin : allowedOriginsList) {
-            if (allowedOrigin.trim().equals(origin)) {
-                return true;
-            }
+    /**
+     * @param origins lista de origens separadas por virgula
+     * @return conjunto de origens sem espacos e sem entradas vazias
+     */
+    static Set<String> parseOrigins(String origins) {
+        if (origins == null || origins.isBlank()) {
+            return Set.of();
         }
-
-        return false;
+        return Arrays.stream(origins.split(","))
+                .map(String::trim)
+                .filter(origin -> !origin.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 }
@@ -0,0 +1,68 @@
+package br.com.futebol.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuracao dos timers expostos em /q/metrics.
+ * Os timers HTTP e os timers de servico (futebol.*) publicam buckets fixos
+ * alinhados aos SLOs, permitindo alertas por histogram_quantile no Prometheus.
+ */
+@Singleton
+public class MetricsConfig {
+
+    private static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(25),
+            Duration.ofMillis(50),
+            Duration.ofMillis(100),
+            Duration.ofMillis(250),
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(2500),
+            Duration.ofSeconds(5)
+    };
+
+    @Produces
+    @Singleton
+    public MeterFilter commonTags(@ConfigProperty(name = "quarkus.application.name") String applicationName) {
+        return MeterFilter.commonTags(List.of(Tag.of("application", applicationName)));
+    }
+
+    @Produces
+    @Singleton
+    public MeterFilter sloBuckets() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER) {
+                    return config;
+                }
+                if (!id.getName().startsWith("http.server.requests") && !id.getName().startsWith("futebol.")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(toNanos(SLO_BUCKETS))
+                        .minimumExpectedValue((double) Duration.ofMillis(5).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    private static double[] toNanos(Duration[] durations) {
+        double[] nanos = new double[durations.length];
+        for (int i = 0; i < durations.length; i++) {
+            nanos[i] = durations[i].toNanos();
+        }
+        return nanos;
+    }
+}
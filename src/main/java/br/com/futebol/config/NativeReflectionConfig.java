@@ -0,0 +1,84 @@
+package br.com.futebol.config;
+
+import br.com.futebol.core.exceptions.ErrorResponse;
+import br.com.futebol.core.persistence.QueryCountSessionListener;
+import br.com.futebol.infrastructure.game.GameConfirmationExportRow;
+import br.com.futebol.infrastructure.game.GameConfirmationRow;
+import br.com.futebol.infrastructure.game.GameExportRow;
+import br.com.futebol.infrastructure.game.GameHistoryRow;
+import br.com.futebol.infrastructure.game.WorstPlayerVoteExportRow;
+import br.com.futebol.infrastructure.user.RankingStatisticsRow;
+import br.com.futebol.infrastructure.user.StatisticsExportRow;
+import br.com.futebol.infrastructure.user.UserRow;
+import br.com.futebol.interfaces.auth.LoginResponse;
+import br.com.futebol.interfaces.dashboard.DashboardResponse;
+import br.com.futebol.interfaces.game.BulkUpdateStatisticsResponse;
+import br.com.futebol.interfaces.game.CreateGameResponse;
+import br.com.futebol.interfaces.game.GameConfirmationListResponse;
+import br.com.futebol.interfaces.game.GameConfirmationResponse;
+import br.com.futebol.interfaces.game.GameHistoryItemResponse;
+import br.com.futebol.interfaces.game.GameHistoryResponse;
+import br.com.futebol.interfaces.game.GamePlayerSearchResponse;
+import br.com.futebol.interfaces.game.GameResponse;
+import br.com.futebol.interfaces.game.MatchResultResponse;
+import br.com.futebol.interfaces.game.WorstPlayerCandidateResponse;
+import br.com.futebol.interfaces.game.WorstPlayerHistoricalRankingResponse;
+import br.com.futebol.interfaces.game.WorstPlayerRankingItemResponse;
+import br.com.futebol.interfaces.game.WorstPlayerRankingResponse;
+import br.com.futebol.interfaces.game.WorstPlayerVoteResponse;
+import br.com.futebol.interfaces.game.WorstPlayerVotersResponse;
+import br.com.futebol.interfaces.game.WorstPlayerVotingStatusResponse;
+import br.com.futebol.interfaces.sync.SyncResponse;
+import br.com.futebol.interfaces.user.BatchStatisticsResponse;
+import br.com.futebol.interfaces.user.RankingItemResponse;
+import br.com.futebol.interfaces.user.RankingResponse;
+import br.com.futebol.interfaces.user.UserResponse;
+import br.com.futebol.interfaces.user.UserStatisticsResponse;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Registro de reflexao para o build nativo.
+ * Os endpoints retornam {@code Response}, entao o Quarkus nao descobre sozinho os DTOs
+ * serializados pelo Jackson; o listener do Hibernate e instanciado pelo nome da classe.
+ * As linhas de exportacao sao records lidos por reflexao (componentes e construtor do select new).
+ */
+@RegisterForReflection(targets = {
+        ErrorResponse.class,
+        QueryCountSessionListener.class,
+        LoginResponse.class,
+        LoginResponse.UserInfo.class,
+        BulkUpdateStatisticsResponse.class,
+        CreateGameResponse.class,
+        GameConfirmationListResponse.class,
+        GameConfirmationResponse.class,
+        GameHistoryItemResponse.class,
+        GameHistoryItemResponse.VotingSummary.class,
+        GameHistoryResponse.class,
+        GamePlayerSearchResponse.class,
+        GameResponse.class,
+        MatchResultResponse.class,
+        WorstPlayerCandidateResponse.class,
+        WorstPlayerHistoricalRankingResponse.class,
+        WorstPlayerRankingItemResponse.class,
+        WorstPlayerRankingResponse.class,
+        WorstPlayerVoteResponse.class,
+        WorstPlayerVotersResponse.class,
+        WorstPlayerVotingStatusResponse.class,
+        BatchStatisticsResponse.class,
+        RankingItemResponse.class,
+        RankingResponse.class,
+        UserResponse.class,
+        UserStatisticsResponse.class,
+        SyncResponse.class,
+        DashboardResponse.class,
+        StatisticsExportRow.class,
+        GameExportRow.class,
+        GameHistoryRow.class,
+        GameConfirmationExportRow.class,
+        WorstPlayerVoteExportRow.class,
+        GameConfirmationRow.class,
+        RankingStatisticsRow.class,
+        UserRow.class
+})
+public class NativeReflectionConfig {
+}
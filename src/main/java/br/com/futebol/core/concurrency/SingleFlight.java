@@ -0,0 +1,79 @@
+package br.com.futebol.core.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa chamadas concorrentes com a mesma chave: a primeira executa a consulta e as demais
+ * aguardam e recebem o mesmo resultado (ou a mesma excecao). Nada e guardado depois que a
+ * execucao termina; chamadas seguintes executam novamente.
+ */
+@ApplicationScoped
+public class SingleFlight {
+
+    static final String METRIC_NAME = "futebol.singleflight.calls";
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    /**
+     * @param name nome da operacao (usado como tag nas metricas)
+     * @param key parametros que identificam a consulta dentro da operacao
+     * @param supplier consulta a executar
+     * @return resultado da execucao propria ou da execucao em andamento com a mesma chave
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> supplier) {
+        String flightKey = name + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(name, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(name, "executed").increment();
+        try {
+            T result = supplier.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Chamadas de leitura executadas ou agrupadas em uma execucao em andamento")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.futebol.core.exceptions;
 
-public class BusinessException extends RuntimeException {
+import jakarta.ws.rs.core.Response;
+
+public class BusinessException extends DomainException {
 
     public BusinessException(String message) {
         super(message);
@@ -9,5 +11,9 @@ public class BusinessException extends RuntimeException {
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
     }
-}
 
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.BAD_REQUEST;
+    }
+}
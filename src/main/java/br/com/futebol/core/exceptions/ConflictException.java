@@ -1,6 +1,8 @@
 package br.com.futebol.core.exceptions;
 
-public class ConflictException extends RuntimeException {
+import jakarta.ws.rs.core.Response;
+
+public class ConflictException extends DomainException {
 
     public ConflictException(String message) {
         super(message);
@@ -9,5 +11,9 @@ public class ConflictException extends RuntimeException {
     public ConflictException(String message, Throwable cause) {
         super(message, cause);
     }
-}
 
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.CONFLICT;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.futebol.core.exceptions;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Base das excecoes de regra de negocio esperadas (4xx).
+ * Nao captura stack trace nem permite supressao: sao lancadas em fluxos normais
+ * (nome duplicado, voto repetido) e o stack nunca e usado pelo GlobalExceptionHandler.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected DomainException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+    /**
+     * @return status HTTP devolvido para a excecao
+     */
+    public abstract Response.Status getStatus();
+}
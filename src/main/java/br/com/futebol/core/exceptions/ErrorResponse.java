@@ -0,0 +1,36 @@
+package br.com.futebol.core.exceptions;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.ws.rs.core.Response;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ErrorResponse {
+
+    private String timestamp;
+    private Integer status;
+    private String error;
+    private String message;
+
+    /**
+     * @param status o status HTTP
+     * @param message a mensagem de erro
+     * @return ErrorResponse com o horario atual
+     */
+    public static ErrorResponse of(Response.Status status, String message) {
+        return new ErrorResponse(OffsetDateTime.now().toString(), status.getStatusCode(), status.getReasonPhrase(), message);
+    }
+
+    /**
+     * @param exception a excecao de dominio
+     * @return ErrorResponse com o status e a mensagem da excecao
+     */
+    public static ErrorResponse of(DomainException exception) {
+        return of(exception.getStatus(), exception.getMessage());
+    }
+}
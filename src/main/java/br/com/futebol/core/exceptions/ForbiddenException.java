@@ -1,6 +1,8 @@
 package br.com.futebol.core.exceptions;
 
-public class ForbiddenException extends RuntimeException {
+import jakarta.ws.rs.core.Response;
+
+public class ForbiddenException extends DomainException {
 
     public ForbiddenException(String message) {
         super(message);
@@ -9,5 +11,9 @@ public class ForbiddenException extends RuntimeException {
     public ForbiddenException(String message, Throwable cause) {
         super(message, cause);
     }
-}
 
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.FORBIDDEN;
+    }
+}
@@ -2,72 +2,79 @@ package br.com.futebol.core.exceptions;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 
-import java.time.OffsetDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Provider
 @Slf4j
 public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
 
+    private static final int RETRY_AFTER_SECONDS = 1;
+
     @Override
     public Response toResponse(Exception exception) {
-        log.error("Exceção capturada: {}", exception.getMessage(), exception);
-
-        if (exception instanceof ResourceNotFoundException) {
-            return buildResponse(Response.Status.NOT_FOUND, exception.getMessage());
-        }
-
-        if (exception instanceof ConflictException) {
-            return buildResponse(Response.Status.CONFLICT, exception.getMessage());
-        }
-
-        if (exception instanceof BusinessException) {
-            return buildResponse(Response.Status.BAD_REQUEST, exception.getMessage());
-        }
-
-        if (exception instanceof UnauthorizedException) {
-            return buildResponse(Response.Status.UNAUTHORIZED, exception.getMessage());
-        }
-
-        if (exception instanceof ForbiddenException) {
-            return buildResponse(Response.Status.FORBIDDEN, exception.getMessage());
+        // Excecoes de dominio sao esperadas: sem stack trace e apenas em debug
+        if (exception instanceof DomainException domainException) {
+            log.debug("Excecao de dominio: {} - {}", domainException.getStatus().getStatusCode(), domainException.getMessage());
+            return Response.status(domainException.getStatus())
+                    .type(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(ErrorResponse.of(domainException))
+                    .build();
         }
 
         if (exception instanceof ConstraintViolationException cve) {
             String errors = cve.getConstraintViolations().stream()
                     .map(ConstraintViolation::getMessage)
                     .collect(Collectors.joining(", "));
+            log.debug("Violacao de validacao: {}", errors);
             return buildResponse(Response.Status.BAD_REQUEST, errors);
         }
 
         if (exception instanceof jakarta.ws.rs.NotAuthorizedException) {
+            log.debug("Acesso nao autorizado: {}", exception.getMessage());
             return buildResponse(Response.Status.UNAUTHORIZED, "Acesso nao autorizado");
         }
 
         if (exception instanceof jakarta.ws.rs.ForbiddenException) {
+            log.debug("Acesso negado: {}", exception.getMessage());
             return buildResponse(Response.Status.FORBIDDEN, "Acesso negado");
         }
 
+        // Limites de fault tolerance: resposta rapida para o cliente tentar novamente
+        if (exception instanceof BulkheadException) {
+            log.debug("Limite de execucoes simultaneas atingido: {}", exception.getMessage());
+            return buildRetryResponse(Response.Status.TOO_MANY_REQUESTS, "Muitas requisicoes simultaneas, tente novamente");
+        }
+
+        if (exception instanceof TimeoutException) {
+            log.warn("Tempo limite excedido: {}", exception.getMessage());
+            return buildRetryResponse(Response.Status.SERVICE_UNAVAILABLE, "Tempo limite excedido, tente novamente");
+        }
+
+        log.error("Exceção capturada: {}", exception.getMessage(), exception);
         return buildResponse(Response.Status.INTERNAL_SERVER_ERROR, "Erro interno do servidor");
     }
 
-    private Response buildResponse(Response.Status status, String message) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", OffsetDateTime.now().toString());
-        body.put("status", status.getStatusCode());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", message);
+    private Response buildRetryResponse(Response.Status status, String message) {
+        return Response.status(status)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .entity(ErrorResponse.of(status, message))
+                .build();
+    }
 
+    private Response buildResponse(Response.Status status, String message) {
         return Response.status(status)
-                .entity(body)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(ErrorResponse.of(status, message))
                 .build();
     }
 }
-
@@ -1,6 +1,8 @@
 package br.com.futebol.core.exceptions;
 
-public class ResourceNotFoundException extends RuntimeException {
+import jakarta.ws.rs.core.Response;
+
+public class ResourceNotFoundException extends DomainException {
 
     public ResourceNotFoundException(String message) {
         super(message);
@@ -9,5 +11,9 @@ public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
         super(String.format("%s nao encontrado com %s: '%s'", resourceName, fieldName, fieldValue));
     }
-}
 
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.NOT_FOUND;
+    }
+}
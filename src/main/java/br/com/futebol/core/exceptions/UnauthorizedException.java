@@ -1,6 +1,8 @@
 package br.com.futebol.core.exceptions;
 
-public class UnauthorizedException extends RuntimeException {
+import jakarta.ws.rs.core.Response;
+
+public class UnauthorizedException extends DomainException {
 
     public UnauthorizedException(String message) {
         super(message);
@@ -9,5 +11,9 @@ public class UnauthorizedException extends RuntimeException {
     public UnauthorizedException() {
         super("Credenciais invalidas");
     }
-}
 
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.UNAUTHORIZED;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.futebol.core.export;
+
+import br.com.futebol.core.exceptions.BusinessException;
+
+import java.util.Locale;
+
+/**
+ * Formatos de exportacao: uma linha por registro, escritos conforme sao lidos do banco.
+ */
+public enum ExportFormat {
+
+    NDJSON(ExportFormat.NDJSON_TYPE, "ndjson"),
+    CSV(ExportFormat.CSV_TYPE, "csv");
+
+    public static final String NDJSON_TYPE = "application/x-ndjson";
+    public static final String CSV_TYPE = "text/csv";
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @param value valor do parametro format (ndjson ou csv)
+     * @return o formato correspondente
+     * @throws BusinessException se o formato nao for suportado
+     */
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Formato de exportacao invalido: " + value + ". Use ndjson ou csv");
+        }
+    }
+}
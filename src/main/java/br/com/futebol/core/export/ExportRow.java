@@ -0,0 +1,15 @@
+package br.com.futebol.core.export;
+
+import java.util.List;
+
+/**
+ * Linha exportada. Implementada por records: os nomes dos componentes formam o cabecalho do CSV
+ * e as propriedades do NDJSON.
+ */
+public interface ExportRow {
+
+    /**
+     * @return valores na ordem dos componentes do record
+     */
+    List<Object> values();
+}
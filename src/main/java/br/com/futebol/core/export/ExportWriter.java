@@ -0,0 +1,114 @@
+package br.com.futebol.core.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Escreve um stream de linhas diretamente na resposta, sem materializar a lista.
+ * A memoria usada independe da quantidade de linhas: cada linha e serializada e descartada.
+ */
+public final class ExportWriter {
+
+    /**
+     * Linhas buscadas por ida ao banco pelo cursor do PostgreSQL.
+     */
+    public static final int FETCH_SIZE = 500;
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private ExportWriter() {
+    }
+
+    /**
+     * @param rows linhas a exportar (o chamador fecha o stream)
+     * @param rowType tipo do record das linhas
+     * @param format formato de saida
+     * @param objectMapper mapper usado no NDJSON
+     * @param output stream da resposta
+     * @return quantidade de linhas escritas
+     */
+    public static <T extends Record & ExportRow> long write(Stream<T> rows, Class<T> rowType, ExportFormat format,
+                                                            ObjectMapper objectMapper, OutputStream output) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+        long count = format == ExportFormat.CSV
+                ? writeCsv(rows, rowType, buffered)
+                : writeNdjson(rows, objectMapper.writerFor(rowType), buffered);
+        buffered.flush();
+        return count;
+    }
+
+    private static <T extends ExportRow> long writeNdjson(Stream<T> rows, ObjectWriter writer, OutputStream output) throws IOException {
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            output.write(writer.writeValueAsBytes(iterator.next()));
+            output.write(NEW_LINE);
+            count++;
+        }
+        return count;
+    }
+
+    private static <T extends Record & ExportRow> long writeCsv(Stream<T> rows, Class<T> rowType, OutputStream output) throws IOException {
+        output.write(csvLine(columns(rowType)).getBytes(StandardCharsets.UTF_8));
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            output.write(csvLine(iterator.next().values()).getBytes(StandardCharsets.UTF_8));
+            count++;
+        }
+        return count;
+    }
+
+    static List<Object> columns(Class<? extends Record> rowType) {
+        return Arrays.stream(rowType.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.toList());
+    }
+
+    static String csvLine(List<Object> values) {
+        return values.stream()
+                .map(ExportWriter::csvValue)
+                .collect(Collectors.joining(",", "", "\n"));
+    }
+
+    /**
+     * Textos iniciados por =, +, -, @, tab ou CR recebem um apostrofo na frente, para que planilhas
+     * nao os interpretem como formula (CSV injection). Numeros sao escritos como estao.
+     *
+     * @param value valor da celula
+     * @return valor entre aspas quando contem separador, aspas ou quebra de linha (RFC 4180)
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!(value instanceof Number) && startsWithFormulaCharacter(text)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    private static boolean startsWithFormulaCharacter(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
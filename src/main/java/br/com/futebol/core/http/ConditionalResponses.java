@@ -0,0 +1,102 @@
+package br.com.futebol.core.http;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional (If-None-Match / If-Modified-Since) para os clientes que fazem polling.
+ * As respostas dependem do usuario autenticado: o cache e privado e sempre revalidado.
+ */
+public final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = revalidate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * ETag forte derivado do updated_at, com precisao de microssegundos (a do PostgreSQL).
+     *
+     * @param id o ID da entidade
+     * @param updatedAt a data da ultima alteracao
+     * @return o ETag da entidade
+     */
+    public static EntityTag entityTag(UUID id, OffsetDateTime updatedAt) {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+        return new EntityTag(id + "-" + Long.toHexString(micros));
+    }
+
+    /**
+     * @param name o nome da resposta agregada (ex.: tipo do ranking)
+     * @param version a versao dos dados de origem
+     * @return o ETag da resposta agregada
+     */
+    public static EntityTag versionTag(String name, String version) {
+        return new EntityTag(name + "-" + version);
+    }
+
+    /**
+     * Resposta de uma entidade ja carregada: evita a serializacao e o envio do corpo quando o cliente
+     * ja tem a mesma versao.
+     *
+     * @param request a requisicao atual
+     * @param id o ID da entidade
+     * @param updatedAt a data da ultima alteracao (sem ela a resposta nao e condicional)
+     * @param body o corpo da resposta
+     * @return 304 se o cliente ja tem esta versao, senao 200 com ETag e Last-Modified
+     */
+    public static Response entity(Request request, UUID id, OffsetDateTime updatedAt, Object body) {
+        if (updatedAt == null) {
+            return Response.ok(body).build();
+        }
+        EntityTag tag = entityTag(id, updatedAt);
+        Date lastModified = Date.from(updatedAt.toInstant());
+
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, tag);
+        if (notModified != null) {
+            return notModified.cacheControl(REVALIDATE).build();
+        }
+        return Response.ok(body).tag(tag).lastModified(lastModified).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * Resposta agregada: o corpo so e montado quando o ETag do cliente nao corresponde a versao atual.
+     * O ETag enviado vem da versao lida junto com o corpo (nao da versao consultada aqui), para que um
+     * corpo montado por uma execucao mais antiga nunca receba um ETag mais novo.
+     *
+     * @param request a requisicao atual
+     * @param name o nome da resposta agregada (ex.: tipo do ranking)
+     * @param currentVersion a versao atual, consultada antes de carregar os dados
+     * @param body fornece o corpo e a versao lida antes dele
+     * @return 304 se o cliente ja tem esta versao, senao 200 com ETag
+     */
+    public static Response aggregate(Request request, String name, String currentVersion,
+                                     Supplier<? extends Versioned<?>> body) {
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(versionTag(name, currentVersion));
+        if (notModified != null) {
+            return notModified.cacheControl(REVALIDATE).build();
+        }
+        Versioned<?> versioned = body.get();
+        return Response.ok(versioned.body())
+                .tag(versionTag(name, versioned.version()))
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+}
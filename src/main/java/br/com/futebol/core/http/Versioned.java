@@ -0,0 +1,10 @@
+package br.com.futebol.core.http;
+
+/**
+ * Corpo de uma resposta agregada junto com a versao dos dados lida na mesma execucao.
+ *
+ * @param version a versao lida antes dos dados do corpo
+ * @param body o corpo da resposta
+ */
+public record Versioned<T>(String version, T body) {
+}
@@ -0,0 +1,20 @@
+package br.com.futebol.core.persistence;
+
+import io.quarkus.arc.Arc;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+
+/**
+ * Entity listener das entidades em cache (User, Game): qualquer alteracao invalida a regiao
+ * da entidade apos o commit, via {@link EntityCacheEvictor}.
+ */
+public class CacheEvictionListener {
+
+    @PostUpdate
+    @PostRemove
+    void evict(Object entity) {
+        Arc.container().instance(EntityCacheEvictor.class).get()
+                .evictAfterCommit(Hibernate.getClass(entity));
+    }
+}
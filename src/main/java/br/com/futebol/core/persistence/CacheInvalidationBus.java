@@ -0,0 +1,86 @@
+package br.com.futebol.core.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Publica invalidacoes de cache para as demais instancias via pg_notify.
+ * Payload: "<entidade>|<instancia de origem>"; a instancia de origem ignora a propria notificacao.
+ */
+@ApplicationScoped
+@Slf4j
+public class CacheInvalidationBus {
+
+    static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    @ConfigProperty(name = "futebol.cache-invalidation.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "futebol.cache-invalidation.channel", defaultValue = "futebol_cache_invalidation")
+    String channel;
+
+    /**
+     * Executado fora da thread do commit: a conexao do pool nao participa da transacao encerrada.
+     *
+     * @param entityName nome da entidade alterada
+     */
+    public void publish(String entityName) {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("futebol-cache-notify").start(() -> notify(entityName));
+    }
+
+    private void notify(String entityName) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, entityName + SEPARATOR + nodeId);
+            statement.execute();
+        } catch (SQLException e) {
+            // As outras instancias continuam com a expiracao por inatividade das regioes
+            log.warn("Falha ao publicar invalidacao de cache para {}: {}", entityName, e.getMessage());
+        }
+    }
+
+    /**
+     * @param payload conteudo da notificacao recebida
+     * @return nome da entidade a invalidar, ou null se a notificacao veio desta instancia ou e invalida
+     */
+    String entityToEvict(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        int separator = payload.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            return null;
+        }
+        if (nodeId.equals(payload.substring(separator + 1))) {
+            return null;
+        }
+        return payload.substring(0, separator);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    String getChannel() {
+        return channel;
+    }
+}
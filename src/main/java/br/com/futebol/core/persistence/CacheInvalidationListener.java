@@ -0,0 +1,153 @@
+package br.com.futebol.core.persistence;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Escuta o canal de invalidacao em uma conexao dedicada (fora do pool) e invalida o cache local.
+ * Em caso de queda reconecta e invalida todas as regioes, pois notificacoes podem ter sido perdidas.
+ */
+@ApplicationScoped
+@Slf4j
+public class CacheInvalidationListener {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+
+    @Inject
+    CacheInvalidationBus cacheInvalidationBus;
+
+    @Inject
+    EntityCacheEvictor entityCacheEvictor;
+
+    @Inject
+    @ConfigProperty(name = "quarkus.datasource.jdbc.url")
+    String jdbcUrl;
+
+    @Inject
+    @ConfigProperty(name = "quarkus.datasource.username")
+    String username;
+
+    @Inject
+    @ConfigProperty(name = "quarkus.datasource.password")
+    String password;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection connection;
+    private Thread worker;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!cacheInvalidationBus.isEnabled()) {
+            return;
+        }
+        String channel = cacheInvalidationBus.getChannel();
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalStateException("Canal de invalidacao de cache invalido: " + channel);
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("futebol-cache-listener").start(() -> listen(channel));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        listening = false;
+        closeConnection();
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void listen(String channel) {
+        long reconnectDelay = 1000;
+        boolean reconnecting = false;
+
+        while (running) {
+            try {
+                connection = openConnection();
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    entityCacheEvictor.evictAll();
+                }
+                reconnectDelay = 1000;
+                listening = true;
+                log.info("Escutando invalidacoes de cache no canal {}", channel);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        String entityName = cacheInvalidationBus.entityToEvict(notification.getParameter());
+                        if (entityName != null) {
+                            entityCacheEvictor.evictRemote(entityName);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                listening = false;
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexao de invalidacao de cache perdida, nova tentativa em {} ms: {}", reconnectDelay, e.getMessage());
+                reconnecting = true;
+                closeConnection();
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * @return true depois que o LISTEN foi executado e enquanto a conexao estiver ativa;
+     *         notificacoes enviadas antes disso nao sao recebidas
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    private Connection openConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("ApplicationName", "api-futebol-cache-listener");
+        return DriverManager.getConnection(jdbcUrl, properties);
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (SQLException e) {
+            log.debug("Falha ao fechar conexao de invalidacao de cache: {}", e.getMessage());
+        }
+    }
+}
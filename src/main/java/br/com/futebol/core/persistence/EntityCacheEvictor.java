@@ -0,0 +1,130 @@
+package br.com.futebol.core.persistence;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.HibernateException;
+
+import java.time.Duration;
+
+/**
+ * Invalida regioes do cache de segundo nivel depois do commit.
+ * As demais instancias sao avisadas pelo {@link CacheInvalidationBus}. Sessoes na replica de leitura
+ * nao gravam no cache ({@link ReadOnlySessionInterceptor}).
+ * <p>
+ * O cache do Quarkus so expira por inatividade (max-idle): uma entrada lida com frequencia nunca expira.
+ * Para limitar o tempo de vida (ex.: notificacao perdida), as regioes de entidades e de queries sao
+ * esvaziadas a cada {@code futebol.cache.max-lifespan}.
+ */
+@ApplicationScoped
+@Slf4j
+public class EntityCacheEvictor {
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    CacheInvalidationBus cacheInvalidationBus;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    @ConfigProperty(name = "futebol.cache.max-lifespan", defaultValue = "30M")
+    Duration maxLifespan;
+
+    private long lifespanTimerId = -1;
+
+    void onStart(@Observes StartupEvent event) {
+        lifespanTimerId = vertx.setPeriodic(maxLifespan.toMillis(), id -> evictExpired());
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (lifespanTimerId >= 0) {
+            vertx.cancelTimer(lifespanTimerId);
+        }
+    }
+
+    /**
+     * @param entityClass classe da entidade cuja regiao deve ser invalidada
+     */
+    public void evictAfterCommit(Class<?> entityClass) {
+        if (transactionSynchronizationRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            evictAndPublish(entityClass);
+            return;
+        }
+
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    evictAndPublish(entityClass);
+                }
+            }
+        });
+    }
+
+    /**
+     * Eviccao pedida por outra instancia: regiao da entidade e resultados de queries em cache,
+     * pois os timestamps de tabela usados pelo query cache tambem sao locais.
+     *
+     * @param entityName nome da entidade (nome completo da classe)
+     */
+    void evictRemote(String entityName) {
+        Cache cache = hibernateCache();
+        try {
+            cache.evictEntityData(entityName);
+        } catch (HibernateException | IllegalArgumentException e) {
+            log.debug("Entidade desconhecida na invalidacao de cache: {}", entityName);
+            return;
+        }
+        cache.evictDefaultQueryRegion();
+    }
+
+    /**
+     * Fim do tempo de vida: cada instancia esvazia o proprio cache, sem publicar no canal.
+     */
+    void evictExpired() {
+        Cache cache = hibernateCache();
+        cache.evictEntityData();
+        cache.evictDefaultQueryRegion();
+    }
+
+    /**
+     * Usado quando notificacoes podem ter sido perdidas (reconexao do listener).
+     */
+    void evictAll() {
+        hibernateCache().evictAllRegions();
+    }
+
+    /**
+     * Os resultados de queries em cache tambem sao descartados: comandos nativos (UPDATE ... RETURNING)
+     * nao atualizam os timestamps de tabela usados pelo query cache.
+     */
+    private void evictAndPublish(Class<?> entityClass) {
+        entityManagerFactory.getCache().evict(entityClass);
+        hibernateCache().evictDefaultQueryRegion();
+        cacheInvalidationBus.publish(entityClass.getName());
+    }
+
+    private Cache hibernateCache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.futebol.core.persistence;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registrado no Hibernate via hibernate.session.events.auto: uma instancia por sessao,
+ * fora do CDI. Soma cada comando JDBC no {@link RequestQueryStats} da requisicao ativa.
+ */
+public class QueryCountSessionListener implements SessionEventListener {
+
+    private RequestQueryStats stats;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        RequestQueryStats current = currentStats();
+        if (current != null) {
+            current.record(System.nanoTime() - start);
+        }
+    }
+
+    private RequestQueryStats currentStats() {
+        if (stats == null) {
+            ManagedContext requestContext = Arc.container().requestContext();
+            if (!requestContext.isActive()) {
+                return null;
+            }
+            stats = Arc.container().instance(RequestQueryStats.class).get();
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Publica a quantidade de comandos SQL e o tempo de banco de cada requisicao,
+ * para identificar caminhos N+1 (ver {@code futebol.query-stats.header-enabled}).
+ */
+@Provider
+@Slf4j
+public class QueryStatsResponseFilter implements ContainerResponseFilter {
+
+    static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    @Inject
+    RequestQueryStats requestQueryStats;
+
+    @ConfigProperty(name = "futebol.query-stats.header-enabled", defaultValue = "false")
+    boolean headerEnabled;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        int queryCount = requestQueryStats.getQueryCount();
+        long queryTimeMillis = requestQueryStats.getQueryTimeMillis();
+
+        log.debug("{} {} executou {} comandos SQL em {} ms",
+                requestContext.getMethod(), requestContext.getUriInfo().getPath(), queryCount, queryTimeMillis);
+
+        if (headerEnabled) {
+            responseContext.getHeaders().putSingle(QUERY_COUNT_HEADER, queryCount);
+            responseContext.getHeaders().putSingle(QUERY_TIME_HEADER, queryTimeMillis);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca metodos de consulta: a sessao Hibernate fica somente leitura, com flush MANUAL, e por padrao
+ * e aberta na replica de leitura. Nao usar em metodos @Transactional que gravam dados, nem chamar
+ * de dentro de uma transacao que grava.
+ */
+@Inherited
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadOnly {
+
+    /**
+     * false para leituras que precisam ver a gravacao que o proprio usuario acabou de fazer
+     * (sessao somente leitura no primario).
+     */
+    @Nonbinding
+    boolean replica() default true;
+}
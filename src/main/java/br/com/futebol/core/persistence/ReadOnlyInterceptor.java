@@ -0,0 +1,43 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Direciona a sessao Hibernate aberta dentro de um metodo @ReadOnly para a replica de leitura.
+ * Executa antes do interceptor de @Transactional (PLATFORM_BEFORE + 200), pois o datasource
+ * e escolhido quando a sessao e aberta.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class ReadOnlyInterceptor {
+
+    @AroundInvoke
+    Object routeToReplica(InvocationContext context) throws Exception {
+        if (!usesReplica(context.getMethod())) {
+            return context.proceed();
+        }
+        boolean previous = ReadReplicaTenantResolver.enterReadOnly();
+        try {
+            return context.proceed();
+        } finally {
+            ReadReplicaTenantResolver.exitReadOnly(previous);
+        }
+    }
+
+    static boolean usesReplica(Method method) {
+        if (method == null) {
+            return true;
+        }
+        ReadOnly binding = method.getAnnotation(ReadOnly.class);
+        if (binding == null) {
+            binding = method.getDeclaringClass().getAnnotation(ReadOnly.class);
+        }
+        return binding == null || binding.replica();
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+/**
+ * Sessao somente leitura nos metodos @ReadOnly: entidades carregadas nao guardam snapshot para o
+ * dirty checking e o flush MANUAL evita a verificacao antes de cada consulta.
+ * Na replica de leitura a sessao nao grava no cache de segundo nivel (CacheMode.GET): a entrada ficaria
+ * em chave do tenant replica, que a gravacao no primario nao atualiza, e poderia carregar dados atrasados.
+ * Executa depois do interceptor de @Transactional, ja com a sessao da transacao (ou da requisicao).
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 300)
+public class ReadOnlySessionInterceptor {
+
+    @Inject
+    Session session;
+
+    @AroundInvoke
+    Object readOnlySession(InvocationContext context) throws Exception {
+        if (session.isDefaultReadOnly()) {
+            return context.proceed();
+        }
+
+        FlushMode previousFlushMode = session.getHibernateFlushMode();
+        CacheMode previousCacheMode = session.getCacheMode();
+        boolean replica = ReadReplicaTenantResolver.REPLICA.equals(session.getTenantIdentifier());
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        if (replica) {
+            session.setCacheMode(CacheMode.GET);
+        }
+        try {
+            return context.proceed();
+        } finally {
+            // A sessao da requisicao pode ser reutilizada fora do metodo
+            if (session.isOpen()) {
+                session.setDefaultReadOnly(false);
+                session.setHibernateFlushMode(previousFlushMode);
+                if (replica) {
+                    session.setCacheMode(previousCacheMode);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.futebol.core.persistence;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Escolhe o datasource da sessao Hibernate (multitenancy DATABASE: tenant = nome do datasource).
+ * Sessoes abertas dentro de metodos @ReadOnly usam o datasource "replica"; as demais usam o primario.
+ */
+@PersistenceUnitExtension
+@ApplicationScoped
+public class ReadReplicaTenantResolver implements TenantResolver {
+
+    public static final String PRIMARY = DataSourceUtil.DEFAULT_DATASOURCE_NAME;
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> READ_ONLY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Inject
+    @ConfigProperty(name = "futebol.read-replica.enabled", defaultValue = "false")
+    boolean replicaEnabled;
+
+    @Override
+    public String getDefaultTenantId() {
+        return PRIMARY;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        return replicaEnabled && READ_ONLY.get() ? REPLICA : PRIMARY;
+    }
+
+    /**
+     * @return estado anterior, para restaurar em chamadas aninhadas
+     */
+    static boolean enterReadOnly() {
+        boolean previous = READ_ONLY.get();
+        READ_ONLY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitReadOnly(boolean previous) {
+        if (previous) {
+            READ_ONLY.set(Boolean.TRUE);
+        } else {
+            READ_ONLY.remove();
+        }
+    }
+
+    static boolean isReadOnly() {
+        return READ_ONLY.get();
+    }
+}
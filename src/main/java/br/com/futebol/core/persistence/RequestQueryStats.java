@@ -0,0 +1,32 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Contador de comandos SQL executados pelo Hibernate durante a requisicao atual.
+ */
+@RequestScoped
+public class RequestQueryStats {
+
+    private int queryCount;
+    private long queryTimeNanos;
+
+    void record(long elapsedNanos) {
+        queryCount++;
+        queryTimeNanos += elapsedNanos;
+    }
+
+    /**
+     * @return quantidade de comandos SQL executados
+     */
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    /**
+     * @return tempo total gasto no banco, em milissegundos
+     */
+    public long getQueryTimeMillis() {
+        return queryTimeNanos / 1_000_000;
+    }
+}
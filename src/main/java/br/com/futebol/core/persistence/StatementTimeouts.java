@@ -0,0 +1,31 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+
+/**
+ * Limites de tempo aplicados no proprio PostgreSQL. O @Timeout do fault tolerance apenas interrompe
+ * a thread chamadora e o PgJDBC ignora a interrupcao: sem estes limites a consulta continua rodando
+ * e ocupa a conexao do pool.
+ */
+public final class StatementTimeouts {
+
+    /** Hint JPA em milissegundos; o driver aplica com granularidade de segundos (Statement.setQueryTimeout). */
+    public static final String QUERY_TIMEOUT_HINT = SpecHints.HINT_SPEC_QUERY_TIMEOUT;
+
+    private StatementTimeouts() {
+    }
+
+    /**
+     * SET LOCAL statement_timeout para todos os comandos da transacao atual, inclusive os do flush.
+     * Usa set_config em um SELECT: um comando nativo de escrita invalidaria o cache de segundo nivel.
+     *
+     * @param entityManager o EntityManager da transacao atual
+     * @param timeoutMillis limite de cada comando, em milissegundos
+     */
+    public static void applyToTransaction(EntityManager entityManager, long timeoutMillis) {
+        entityManager.createNativeQuery("SELECT set_config('statement_timeout', ?1, true)")
+                .setParameter(1, String.valueOf(timeoutMillis))
+                .getSingleResult();
+    }
+}
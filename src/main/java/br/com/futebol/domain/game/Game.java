@@ -1,16 +1,23 @@
 package br.com.futebol.domain.game;
 
+import br.com.futebol.core.persistence.CacheEvictionListener;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "games")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(CacheEvictionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,7 +53,11 @@ public class Game extends PanacheEntityBase {
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    @UpdateTimestamp
+    /**
+     * Definido pelo banco (DEFAULT e trigger_update_games_updated_at) e relido apos cada insert/update,
+     * para que a entidade gerenciada, o cache de segundo nivel e o ETag usem o mesmo valor gravado.
+     */
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
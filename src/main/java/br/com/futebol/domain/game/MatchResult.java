@@ -0,0 +1,88 @@
+package br.com.futebol.domain.game;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "match_results")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchResult extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "game_id", nullable = false)
+    private UUID gameId;
+
+    @Column(name = "team_division_id", nullable = false)
+    private UUID teamDivisionId;
+
+    @Column(name = "home_team_number", nullable = false)
+    private Integer homeTeamNumber;
+
+    @Column(name = "away_team_number", nullable = false)
+    private Integer awayTeamNumber;
+
+    @Column(name = "home_score", nullable = false)
+    @Builder.Default
+    private Integer homeScore = 0;
+
+    @Column(name = "away_score", nullable = false)
+    @Builder.Default
+    private Integer awayScore = 0;
+
+    @Column(name = "recorded_by_user_id", nullable = false)
+    private UUID recordedByUserId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    /**
+     * @return numero do time vencedor, ou null em caso de empate
+     */
+    public Integer getWinnerTeamNumber() {
+        if (homeScore > awayScore) {
+            return homeTeamNumber;
+        }
+        if (awayScore > homeScore) {
+            return awayTeamNumber;
+        }
+        return null;
+    }
+
+    /**
+     * @return numero do time perdedor, ou null em caso de empate
+     */
+    public Integer getLoserTeamNumber() {
+        if (homeScore > awayScore) {
+            return awayTeamNumber;
+        }
+        if (awayScore > homeScore) {
+            return homeTeamNumber;
+        }
+        return null;
+    }
+
+    /**
+     * @return true se a partida terminou empatada
+     */
+    public boolean isDraw() {
+        return homeScore.equals(awayScore);
+    }
+}
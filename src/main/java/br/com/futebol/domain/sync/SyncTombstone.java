@@ -0,0 +1,47 @@
+package br.com.futebol.domain.sync;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Registro de exclusao fisica, gravado pelo trigger record_sync_tombstone (V14, usuarios em V18).
+ * A aplicacao apenas le esta tabela.
+ */
+@Entity
+@Immutable
+@Table(name = "sync_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone extends PanacheEntityBase {
+
+    public static final String GAMES = "games";
+    public static final String GAME_CONFIRMATIONS = "game_confirmations";
+    public static final String GAME_WORST_PLAYER_VOTES = "game_worst_player_votes";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 64)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "confirmed_by_user_id")
+    private UUID confirmedByUserId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+}
@@ -1,12 +1,11 @@
 package br.com.futebol.domain.user;
 
+import br.com.futebol.infrastructure.user.DurationSecondsConverter;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
@@ -29,12 +28,11 @@ public class UserStatistics extends PanacheEntityBase {
     private UUID userId;
 
     /**
-     * Minutos jogados armazenados como INTERVAL no PostgreSQL.
-     * Mapeado para Duration no Java usando converter customizado.
+     * Minutos jogados armazenados como total de segundos (BIGINT) no PostgreSQL.
+     * Mapeado para Duration no Java; a API continua expondo HH:mm:ss.
      */
-    @Column(name = "minutes_played", nullable = false, columnDefinition = "INTERVAL")
-//    @Convert(converter = br.com.futebol.infrastructure.user.DurationIntervalConverter.class)
-    @JdbcTypeCode(SqlTypes.INTERVAL_SECOND)
+    @Column(name = "minutes_played_seconds", nullable = false)
+    @Convert(converter = DurationSecondsConverter.class)
     @Builder.Default
     private Duration minutesPlayed = Duration.ZERO;
 
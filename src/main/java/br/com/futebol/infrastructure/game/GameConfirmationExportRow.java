@@ -0,0 +1,20 @@
+package br.com.futebol.infrastructure.game;
+
+import br.com.futebol.core.export.ExportRow;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Linha da exportacao de confirmacoes de presenca.
+ */
+public record GameConfirmationExportRow(UUID id, UUID gameId, UUID userId, String confirmedName, Boolean isGuest,
+                                        UUID confirmedByUserId, OffsetDateTime confirmedAt) implements ExportRow {
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, gameId, userId, confirmedName, isGuest, confirmedByUserId, confirmedAt);
+    }
+}
@@ -1,17 +1,28 @@
 package br.com.futebol.infrastructure.game;
 
+import br.com.futebol.core.export.ExportWriter;
 import br.com.futebol.domain.game.GameConfirmation;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class GameConfirmationRepository implements PanacheRepositoryBase<GameConfirmation, UUID> {
 
+    private static final String ROW_SELECT = """
+            select new br.com.futebol.infrastructure.game.GameConfirmationRow(
+                c.id, c.gameId, c.userId, c.confirmedName, c.isGuest, c.confirmedByUserId,
+                c.confirmedAt, c.createdAt, c.updatedAt)
+            from GameConfirmation c
+            """;
+
     /**
      * @param gameId o ID do jogo
      * @return lista de confirmacoes do jogo
@@ -20,6 +31,21 @@ public class GameConfirmationRepository implements PanacheRepositoryBase<GameCon
         return list("gameId = ?1 order by confirmedAt asc", gameId);
     }
 
+    /**
+     * Projecao para listagem: as linhas nao entram no contexto de persistencia.
+     *
+     * @param gameId o ID do jogo
+     * @return confirmacoes do jogo, em ordem de confirmacao
+     */
+    public List<GameConfirmationRow> findRowsByGameId(UUID gameId) {
+        return getEntityManager()
+                .createQuery(ROW_SELECT + """
+                        where c.gameId = ?1
+                        order by c.confirmedAt asc""", GameConfirmationRow.class)
+                .setParameter(1, gameId)
+                .getResultList();
+    }
+
     /**
      * @param gameId o ID do jogo
      * @param userId o ID do usuario
@@ -50,10 +76,15 @@ public class GameConfirmationRepository implements PanacheRepositoryBase<GameCon
     /**
      * @param gameId o ID do jogo
      * @param userId o ID do usuario
-     * @return lista de confirmações relacionadas ao usuario
+     * @return projecao das confirmações relacionadas ao usuario
      */
-    public List<GameConfirmation> findByGameIdAndUserRelated(UUID gameId, UUID userId) {
-        return list("gameId = ?1 AND (userId = ?2 OR confirmedByUserId = ?2)", gameId, userId);
+    public List<GameConfirmationRow> findRowsByGameIdAndUserRelated(UUID gameId, UUID userId) {
+        return getEntityManager()
+                .createQuery(ROW_SELECT + """
+                        where c.gameId = ?1 and (c.userId = ?2 or c.confirmedByUserId = ?2)""", GameConfirmationRow.class)
+                .setParameter(1, gameId)
+                .setParameter(2, userId)
+                .getResultList();
     }
 
     /**
@@ -82,5 +113,61 @@ public class GameConfirmationRepository implements PanacheRepositoryBase<GameCon
         }
         return list("id in ?1", ids);
     }
-}
 
+    /**
+     * Lista completa, apenas para ADMIN/SUPER_ADMIN (mesma regra de listConfirmations).
+     *
+     * @param since inicio da janela (exclusivo)
+     * @param gameDateFrom data minima do jogo
+     * @return confirmacoes criadas ou alteradas depois de {@code since}
+     */
+    public List<GameConfirmationRow> findRowsUpdatedSince(OffsetDateTime since, OffsetDateTime gameDateFrom) {
+        return getEntityManager()
+                .createQuery(ROW_SELECT + """
+                        where c.updatedAt > ?1
+                          and c.gameId in (select g.id from Game g where g.gameDate >= ?2)
+                        order by c.updatedAt asc""", GameConfirmationRow.class)
+                .setParameter(1, since)
+                .setParameter(2, gameDateFrom)
+                .getResultList();
+    }
+
+    /**
+     * Mesmo filtro de {@link #findRowsByGameIdAndUserRelated}: confirmacoes do usuario e convidados que ele confirmou.
+     *
+     * @param since inicio da janela (exclusivo)
+     * @param gameDateFrom data minima do jogo
+     * @param userId o ID do usuario
+     * @return confirmacoes relacionadas ao usuario criadas ou alteradas depois de {@code since}
+     */
+    public List<GameConfirmationRow> findRowsUpdatedSinceAndUserRelated(OffsetDateTime since, OffsetDateTime gameDateFrom,
+                                                                       UUID userId) {
+        return getEntityManager()
+                .createQuery(ROW_SELECT + """
+                        where c.updatedAt > ?1
+                          and c.gameId in (select g.id from Game g where g.gameDate >= ?2)
+                          and (c.userId = ?3 or c.confirmedByUserId = ?3)
+                        order by c.updatedAt asc""", GameConfirmationRow.class)
+                .setParameter(1, since)
+                .setParameter(2, gameDateFrom)
+                .setParameter(3, userId)
+                .getResultList();
+    }
+
+    /**
+     * Cursor no servidor (fetch size) com projecao em records. Deve ser consumido dentro de uma
+     * transacao e fechado pelo chamador.
+     *
+     * @return todas as confirmacoes, agrupadas por jogo
+     */
+    public Stream<GameConfirmationExportRow> streamForExport() {
+        return getEntityManager()
+                .createQuery("""
+                        select new br.com.futebol.infrastructure.game.GameConfirmationExportRow(
+                            c.id, c.gameId, c.userId, c.confirmedName, c.isGuest, c.confirmedByUserId, c.confirmedAt)
+                        from GameConfirmation c
+                        order by c.gameId, c.confirmedAt""", GameConfirmationExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ExportWriter.FETCH_SIZE)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.futebol.infrastructure.game;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projecao de confirmacao para as listagens, lida fora do contexto de persistencia.
+ */
+public record GameConfirmationRow(UUID id, UUID gameId, UUID userId, String confirmedName, Boolean isGuest,
+                                  UUID confirmedByUserId, OffsetDateTime confirmedAt,
+                                  OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+}
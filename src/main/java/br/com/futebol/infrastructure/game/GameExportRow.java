@@ -0,0 +1,22 @@
+package br.com.futebol.infrastructure.game;
+
+import br.com.futebol.core.export.ExportRow;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Linha da exportacao de jogos.
+ */
+public record GameExportRow(UUID id, String name, OffsetDateTime gameDate, Boolean released,
+                            Boolean worstPlayerVotingEnabled, OffsetDateTime worstPlayerVotingOpenedAt,
+                            OffsetDateTime worstPlayerVotingClosedAt, OffsetDateTime createdAt) implements ExportRow {
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, name, gameDate, released, worstPlayerVotingEnabled,
+                worstPlayerVotingOpenedAt, worstPlayerVotingClosedAt, createdAt);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.futebol.infrastructure.game;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Linha do historico de jogos, com os totais calculados na mesma consulta da pagina.
+ *
+ * @param id o ID do jogo
+ * @param name nome do jogo
+ * @param gameDate data do jogo (primeira chave do cursor)
+ * @param released se o jogo esta liberado
+ * @param worstPlayerVotingEnabled se a votacao de pior do jogo esta aberta
+ * @param worstPlayerVotingOpenedAt abertura da votacao
+ * @param worstPlayerVotingClosedAt encerramento da votacao
+ * @param playerCount confirmacoes de usuarios cadastrados
+ * @param guestCount confirmacoes de convidados
+ * @param voteCount total de votos de pior do jogo
+ * @param leaderName nome do mais votado (null sem votos)
+ * @param leaderVotes votos do mais votado (null sem votos)
+ */
+public record GameHistoryRow(UUID id,
+                             String name,
+                             OffsetDateTime gameDate,
+                             Boolean released,
+                             Boolean worstPlayerVotingEnabled,
+                             OffsetDateTime worstPlayerVotingOpenedAt,
+                             OffsetDateTime worstPlayerVotingClosedAt,
+                             Long playerCount,
+                             Long guestCount,
+                             Long voteCount,
+                             String leaderName,
+                             Long leaderVotes) {
+}
@@ -1,17 +1,55 @@
 package br.com.futebol.infrastructure.game;
 
+import br.com.futebol.core.export.ExportWriter;
+import br.com.futebol.core.persistence.EntityCacheEvictor;
+import br.com.futebol.core.persistence.StatementTimeouts;
 import br.com.futebol.domain.game.Game;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
 
-import java.util.List;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class GameRepository implements PanacheRepositoryBase<Game, UUID> {
 
+    private static final String HISTORY_SELECT = """
+            select new br.com.futebol.infrastructure.game.GameHistoryRow(
+                g.id, g.name, g.gameDate, g.released,
+                g.worstPlayerVotingEnabled, g.worstPlayerVotingOpenedAt, g.worstPlayerVotingClosedAt,
+                (select count(c) from GameConfirmation c where c.gameId = g.id and c.isGuest = false),
+                (select count(c) from GameConfirmation c where c.gameId = g.id and c.isGuest = true),
+                (select count(v) from GameWorstPlayerVote v where v.gameId = g.id),
+                (select c.confirmedName from GameWorstPlayerVote v join GameConfirmation c on c.id = v.targetConfirmationId
+                 where v.gameId = g.id
+                 group by c.id, c.confirmedName
+                 order by count(v) desc, c.confirmedName
+                 limit 1),
+                (select count(v) from GameWorstPlayerVote v
+                 where v.gameId = g.id
+                 group by v.targetConfirmationId
+                 order by count(v) desc
+                 limit 1))
+            from Game g""";
+
+    @Inject
+    EntityCacheEvictor entityCacheEvictor;
+
+    /** Mesmo valor do @Timeout do historico: a consulta e cancelada no banco, nao apenas na thread chamadora. */
+    @ConfigProperty(name = "futebol.query-timeout.history", defaultValue = "5000")
+    int historyQueryTimeoutMillis;
+
     /**
      * @return lista de jogos
      */
@@ -20,25 +58,30 @@ public class GameRepository implements PanacheRepositoryBase<Game, UUID> {
     }
 
     /**
-     * @param id o ID do jogo
-     * @return Optional contendo o jogo se encontrado
+     * Desmarca o jogo liberado em um unico comando, sem carregar entidades.
+     * O indice unico parcial uk_games_released garante no maximo um jogo liberado.
+     *
+     * @return IDs dos jogos que deixaram de estar liberados
      */
-    public Optional<Game> findByIdOptional(UUID id) {
-        return find("id = ?1", id).firstResultOptional();
-    }
+    public List<UUID> unreleaseAll() {
+        List<?> ids = getEntityManager()
+                .createNativeQuery("UPDATE games SET released = FALSE WHERE released RETURNING id")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Game.class)
+                .getResultList();
 
-    /**
-     * @return lista de jogos com released = true
-     */
-    public List<Game> findAllReleased() {
-        return list("released = ?1", true);
+        // Tambem descarta o resultado em cache de findReleased, que muda com o novo jogo liberado
+        entityCacheEvictor.evictAfterCommit(Game.class);
+        return ids.stream().map(UUID.class::cast).toList();
     }
 
     /**
      * @return Optional contendo o jogo se encontrado
      */
     public Optional<Game> findReleased() {
-        return find("released = ?1", true).firstResultOptional();
+        return find("released = ?1", true)
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .firstResultOptional();
     }
 
     /**
@@ -46,8 +89,79 @@ public class GameRepository implements PanacheRepositoryBase<Game, UUID> {
      * @param end data final inclusiva
      * @return jogos no intervalo informado
      */
+    @Bulkhead(2)
+    @Timeout(5000)
     public List<Game> findByGameDateBetween(OffsetDateTime start, OffsetDateTime end) {
-        return list("gameDate >= ?1 and gameDate <= ?2 order by gameDate desc", start, end);
+        return find("gameDate >= ?1 and gameDate <= ?2 order by gameDate desc", start, end)
+                .withHint(StatementTimeouts.QUERY_TIMEOUT_HINT, historyQueryTimeoutMillis)
+                .list();
     }
-}
 
+    /**
+     * @param since inicio da janela (exclusivo)
+     * @param gameDateFrom data minima do jogo, limita a carga completa aos jogos recentes e futuros
+     * @return jogos criados ou alterados depois de {@code since}
+     */
+    public List<Game> findUpdatedSince(OffsetDateTime since, OffsetDateTime gameDateFrom) {
+        return list("updatedAt > ?1 and gameDate >= ?2 order by updatedAt asc", since, gameDateFrom);
+    }
+
+    /**
+     * Uma pagina do historico por keyset em (gameDate, id), lida pelo indice idx_games_game_date_id.
+     * Totais de confirmacoes e o resumo da votacao vem de subconsultas por jogo, na mesma consulta.
+     *
+     * @param start data inicial inclusiva (opcional)
+     * @param end data final inclusiva (opcional)
+     * @param afterGameDate data do ultimo jogo da pagina anterior (opcional)
+     * @param afterId ID do ultimo jogo da pagina anterior (obrigatorio com afterGameDate)
+     * @param limit tamanho maximo da pagina
+     * @return jogos do mais recente para o mais antigo
+     */
+    public List<GameHistoryRow> findHistoryPage(OffsetDateTime start, OffsetDateTime end,
+                                                OffsetDateTime afterGameDate, UUID afterId, int limit) {
+        List<String> conditions = new ArrayList<>();
+        if (start != null) {
+            conditions.add("g.gameDate >= :start");
+        }
+        if (end != null) {
+            conditions.add("g.gameDate <= :end");
+        }
+        if (afterGameDate != null) {
+            conditions.add("(g.gameDate, g.id) < (:afterGameDate, :afterId)");
+        }
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+
+        TypedQuery<GameHistoryRow> query = getEntityManager()
+                .createQuery(HISTORY_SELECT + where + " order by g.gameDate desc, g.id desc", GameHistoryRow.class)
+                .setMaxResults(limit);
+        if (start != null) {
+            query.setParameter("start", start);
+        }
+        if (end != null) {
+            query.setParameter("end", end);
+        }
+        if (afterGameDate != null) {
+            query.setParameter("afterGameDate", afterGameDate);
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Cursor no servidor (fetch size) com projecao em records. Deve ser consumido dentro de uma
+     * transacao e fechado pelo chamador.
+     *
+     * @return todos os jogos, do mais recente para o mais antigo
+     */
+    public Stream<GameExportRow> streamForExport() {
+        return getEntityManager()
+                .createQuery("""
+                        select new br.com.futebol.infrastructure.game.GameExportRow(
+                            g.id, g.name, g.gameDate, g.released, g.worstPlayerVotingEnabled,
+                            g.worstPlayerVotingOpenedAt, g.worstPlayerVotingClosedAt, g.createdAt)
+                        from Game g
+                        order by g.gameDate desc""", GameExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ExportWriter.FETCH_SIZE)
+                .getResultStream();
+    }
+}
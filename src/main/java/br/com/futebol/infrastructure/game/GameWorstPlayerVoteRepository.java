@@ -1,15 +1,27 @@
 package br.com.futebol.infrastructure.game;
 
+import br.com.futebol.core.export.ExportWriter;
+import br.com.futebol.core.persistence.StatementTimeouts;
 import br.com.futebol.domain.game.GameWorstPlayerVote;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class GameWorstPlayerVoteRepository implements PanacheRepositoryBase<GameWorstPlayerVote, UUID> {
 
+    /** Mesmo valor do @Timeout do historico: a consulta e cancelada no banco, nao apenas na thread chamadora. */
+    @ConfigProperty(name = "futebol.query-timeout.history", defaultValue = "5000")
+    int historyQueryTimeoutMillis;
+
     public boolean existsByGameIdAndVoterUserId(UUID gameId, UUID voterUserId) {
         return count("gameId = ?1 and voterUserId = ?2", gameId, voterUserId) > 0;
     }
@@ -22,10 +34,40 @@ public class GameWorstPlayerVoteRepository implements PanacheRepositoryBase<Game
         return list("gameId = ?1 and targetConfirmationId = ?2 order by createdAt asc", gameId, targetConfirmationId);
     }
 
+    @Bulkhead(2)
+    @Timeout(5000)
     public List<GameWorstPlayerVote> findByGameIds(List<UUID> gameIds) {
         if (gameIds == null || gameIds.isEmpty()) {
             return List.of();
         }
-        return list("gameId in ?1 order by createdAt desc", gameIds);
+        return find("gameId in ?1 order by createdAt desc", gameIds)
+                .withHint(StatementTimeouts.QUERY_TIMEOUT_HINT, historyQueryTimeoutMillis)
+                .list();
+    }
+
+    /**
+     * @param voterUserId o ID do votante
+     * @param since inicio da janela (exclusivo)
+     * @return votos do usuario registrados ou alterados depois de {@code since}
+     */
+    public List<GameWorstPlayerVote> findByVoterUserIdUpdatedSince(UUID voterUserId, OffsetDateTime since) {
+        return list("voterUserId = ?1 and updatedAt > ?2 order by updatedAt asc", voterUserId, since);
+    }
+
+    /**
+     * Cursor no servidor (fetch size) com projecao em records. Deve ser consumido dentro de uma
+     * transacao e fechado pelo chamador.
+     *
+     * @return todos os votos, agrupados por jogo
+     */
+    public Stream<WorstPlayerVoteExportRow> streamForExport() {
+        return getEntityManager()
+                .createQuery("""
+                        select new br.com.futebol.infrastructure.game.WorstPlayerVoteExportRow(
+                            v.id, v.gameId, v.voterUserId, v.voterNameSnapshot, v.targetConfirmationId, v.createdAt)
+                        from GameWorstPlayerVote v
+                        order by v.gameId, v.createdAt""", WorstPlayerVoteExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ExportWriter.FETCH_SIZE)
+                .getResultStream();
     }
 }
@@ -0,0 +1,93 @@
+package br.com.futebol.infrastructure.game;
+
+import br.com.futebol.domain.game.MatchResult;
+import br.com.futebol.domain.user.UserStatistics;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.query.NativeQuery;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@ApplicationScoped
+public class MatchResultRepository implements PanacheRepositoryBase<MatchResult, UUID> {
+
+    /**
+     * Soma vitoria/empate/derrota para todos os jogadores cadastrados dos dois times
+     * em um unico comando, criando as estatisticas de quem ainda nao possui.
+     */
+    private static final String APPLY_RESULT_TO_STATISTICS = """
+            INSERT INTO user_statistics (user_id, victories, draws, defeats)
+            SELECT DISTINCT ON (p.player_user_id)
+                   p.player_user_id,
+                   CASE WHEN p.team_number = :winnerTeam THEN 1 ELSE 0 END,
+                   :draw,
+                   CASE WHEN p.team_number = :loserTeam THEN 1 ELSE 0 END
+            FROM team_division_players p
+            JOIN users u ON u.id = p.player_user_id
+            WHERE p.team_division_id = :teamDivisionId
+              AND p.team_number IN (:homeTeam, :awayTeam)
+              AND u.active = TRUE
+              AND u.profile <> 'SUPER_ADMIN'
+            ON CONFLICT (user_id) DO UPDATE SET
+                victories = user_statistics.victories + EXCLUDED.victories,
+                draws = user_statistics.draws + EXCLUDED.draws,
+                defeats = user_statistics.defeats + EXCLUDED.defeats
+            """;
+
+    /**
+     * @param gameId o ID do jogo
+     * @return lista de resultados do jogo
+     */
+    public List<MatchResult> findByGameId(UUID gameId) {
+        return list("gameId = ?1 order by createdAt asc", gameId);
+    }
+
+    /**
+     * @param gameId o ID do jogo
+     * @return Optional contendo o ID da divisao de times atual do jogo
+     */
+    public Optional<UUID> findCurrentTeamDivisionId(UUID gameId) {
+        List<?> ids = getEntityManager()
+                .createNativeQuery("SELECT id FROM team_divisions WHERE game_id = ?1 AND is_current = TRUE ORDER BY version DESC LIMIT 1")
+                .setParameter(1, gameId)
+                .getResultList();
+        return ids.stream().findFirst().map(UUID.class::cast);
+    }
+
+    /**
+     * @param teamDivisionId o ID da divisao de times
+     * @return numeros dos times existentes na divisao
+     */
+    public List<Integer> findTeamNumbers(UUID teamDivisionId) {
+        List<?> teamNumbers = getEntityManager()
+                .createNativeQuery("SELECT DISTINCT team_number FROM team_division_players WHERE team_division_id = ?1")
+                .setParameter(1, teamDivisionId)
+                .getResultList();
+        return teamNumbers.stream()
+                .map(number -> ((Number) number).intValue())
+                .toList();
+    }
+
+    /**
+     * @param result o resultado da partida
+     * @return quantidade de estatisticas de jogadores atualizadas
+     */
+    public int applyResultToStatistics(MatchResult result) {
+        Integer winnerTeam = result.getWinnerTeamNumber();
+        Integer loserTeam = result.getLoserTeamNumber();
+
+        return getEntityManager()
+                .createNativeQuery(APPLY_RESULT_TO_STATISTICS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(UserStatistics.class)
+                .setParameter("winnerTeam", winnerTeam != null ? winnerTeam : 0)
+                .setParameter("loserTeam", loserTeam != null ? loserTeam : 0)
+                .setParameter("draw", result.isDraw() ? 1 : 0)
+                .setParameter("teamDivisionId", result.getTeamDivisionId())
+                .setParameter("homeTeam", result.getHomeTeamNumber())
+                .setParameter("awayTeam", result.getAwayTeamNumber())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.futebol.infrastructure.game;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveWorstPlayerVoteRepository {
+
+    private static final String COUNT_BY_GAME = """
+            SELECT c.id, c.game_id, c.user_id, c.confirmed_name, COUNT(*) AS votes
+            FROM game_worst_player_votes v
+            JOIN game_confirmations c ON c.id = v.target_confirmation_id
+            WHERE v.game_id = $1
+              AND c.is_guest = FALSE
+            GROUP BY c.id, c.game_id, c.user_id, c.confirmed_name
+            ORDER BY votes DESC, c.confirmed_name ASC
+            """;
+
+    private static final String COUNT_BY_GAME_DATE = """
+            SELECT c.id, c.game_id, c.user_id, c.confirmed_name, COUNT(*) AS votes
+            FROM game_worst_player_votes v
+            JOIN games g ON g.id = v.game_id
+            JOIN game_confirmations c ON c.id = v.target_confirmation_id
+            WHERE g.game_date >= $1
+              AND g.game_date <= $2
+              AND c.is_guest = FALSE
+            GROUP BY c.id, c.game_id, c.user_id, c.confirmed_name
+            ORDER BY votes DESC, c.confirmed_name ASC
+            """;
+
+    @Inject
+    Pool client;
+
+    /**
+     * @param gameId o ID do jogo
+     * @return true se o jogo existir
+     */
+    public Uni<Boolean> existsGame(UUID gameId) {
+        return client.preparedQuery("SELECT 1 FROM games WHERE id = $1")
+                .execute(Tuple.of(gameId))
+                .map(rows -> rows.size() > 0);
+    }
+
+    /**
+     * @param gameId o ID do jogo
+     * @return votos por confirmacao ordenados por total de votos e nome
+     */
+    public Uni<List<WorstPlayerVoteCountRow>> countByGameId(UUID gameId) {
+        return client.preparedQuery(COUNT_BY_GAME)
+                .execute(Tuple.of(gameId))
+                .map(ReactiveWorstPlayerVoteRepository::toRows);
+    }
+
+    /**
+     * @param start inicio do intervalo da data do jogo
+     * @param end fim do intervalo da data do jogo
+     * @return votos por confirmacao dos jogos no intervalo ordenados por total de votos e nome
+     */
+    public Uni<List<WorstPlayerVoteCountRow>> countByGameDateBetween(OffsetDateTime start, OffsetDateTime end) {
+        return client.preparedQuery(COUNT_BY_GAME_DATE)
+                .execute(Tuple.of(start, end))
+                .map(ReactiveWorstPlayerVoteRepository::toRows);
+    }
+
+    private static List<WorstPlayerVoteCountRow> toRows(RowSet<Row> rows) {
+        List<WorstPlayerVoteCountRow> counts = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            counts.add(new WorstPlayerVoteCountRow(
+                    row.getUUID("id"),
+                    row.getUUID("game_id"),
+                    row.getUUID("user_id"),
+                    row.getString("confirmed_name"),
+                    row.getLong("votes").intValue()));
+        }
+        return counts;
+    }
+}
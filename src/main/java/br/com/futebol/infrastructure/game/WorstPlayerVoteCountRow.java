@@ -0,0 +1,15 @@
+package br.com.futebol.infrastructure.game;
+
+import java.util.UUID;
+
+/**
+ * Total de votos de pior do jogo recebidos por uma confirmacao, lido pelo cliente reativo.
+ *
+ * @param confirmationId o ID da confirmacao votada
+ * @param gameId o ID do jogo da confirmacao
+ * @param userId o ID do usuario confirmado
+ * @param playerName nome confirmado do jogador
+ * @param votes total de votos
+ */
+public record WorstPlayerVoteCountRow(UUID confirmationId, UUID gameId, UUID userId, String playerName, int votes) {
+}
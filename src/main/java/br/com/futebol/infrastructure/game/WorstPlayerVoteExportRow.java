@@ -0,0 +1,20 @@
+package br.com.futebol.infrastructure.game;
+
+import br.com.futebol.core.export.ExportRow;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Linha da exportacao de votos de pior do jogo.
+ */
+public record WorstPlayerVoteExportRow(UUID id, UUID gameId, UUID voterUserId, String voterName,
+                                       UUID targetConfirmationId, OffsetDateTime createdAt) implements ExportRow {
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, gameId, voterUserId, voterName, targetConfirmationId, createdAt);
+    }
+}
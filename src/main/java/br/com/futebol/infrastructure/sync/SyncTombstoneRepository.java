@@ -0,0 +1,67 @@
+package br.com.futebol.infrastructure.sync;
+
+import br.com.futebol.domain.sync.SyncTombstone;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+public class SyncTombstoneRepository implements PanacheRepositoryBase<SyncTombstone, Long> {
+
+    /**
+     * @param entityType a tabela de origem (constantes de {@link SyncTombstone})
+     * @param since inicio da janela (exclusivo)
+     * @return IDs removidos depois de {@code since}
+     */
+    public List<UUID> findDeletedIdsSince(String entityType, OffsetDateTime since) {
+        return getEntityManager()
+                .createQuery("""
+                        select t.entityId from SyncTombstone t
+                        where t.entityType = :entityType and t.deletedAt > :since
+                        order by t.deletedAt""", UUID.class)
+                .setParameter("entityType", entityType)
+                .setParameter("since", since)
+                .getResultList();
+    }
+
+    /**
+     * @param entityType a tabela de origem (constantes de {@link SyncTombstone})
+     * @param since inicio da janela (exclusivo)
+     * @param userId o ID do usuario
+     * @return IDs removidos depois de {@code since} de linhas do usuario ou confirmadas por ele
+     */
+    public List<UUID> findDeletedIdsSinceForUser(String entityType, OffsetDateTime since, UUID userId) {
+        return getEntityManager()
+                .createQuery("""
+                        select t.entityId from SyncTombstone t
+                        where t.entityType = :entityType and t.deletedAt > :since
+                          and (t.userId = :userId or t.confirmedByUserId = :userId)
+                        order by t.deletedAt""", UUID.class)
+                .setParameter("entityType", entityType)
+                .setParameter("since", since)
+                .setParameter("userId", userId)
+                .getResultList();
+    }
+
+    /**
+     * Inicio da transacao mais antiga ainda aberta no banco (incluindo a atual). Os triggers de updated_at
+     * e deleted_at gravam o inicio da transacao, entao linhas ainda nao confirmadas nunca ficam antes dele.
+     * Conexoes de outros roles aparecem sem xact_start para usuarios sem pg_read_all_stats; a aplicacao
+     * usa um unico role, entao todas as suas transacoes sao consideradas.
+     *
+     * @return o menor xact_start entre as conexoes de cliente do banco atual
+     */
+    public OffsetDateTime oldestActiveTransactionStart() {
+        return (OffsetDateTime) getEntityManager()
+                .createNativeQuery("""
+                        select least(current_timestamp, coalesce(min(xact_start), current_timestamp))
+                        from pg_stat_activity
+                        where datname = current_database()
+                          and backend_type = 'client backend'
+                          and xact_start is not null""", OffsetDateTime.class)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.futebol.infrastructure.user;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.Duration;
+
+/**
+ * Mapeia Duration para a coluna BIGINT com o total de segundos.
+ */
+@Converter(autoApply = false)
+public class DurationSecondsConverter implements AttributeConverter<Duration, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Duration duration) {
+        return duration == null ? 0L : duration.getSeconds();
+    }
+
+    @Override
+    public Duration convertToEntityAttribute(Long seconds) {
+        return seconds == null ? Duration.ZERO : Duration.ofSeconds(seconds);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.futebol.infrastructure.user;
+
+import java.util.UUID;
+
+/**
+ * Linha do ranking de estatisticas lida pelo cliente reativo.
+ *
+ * @param position posicao calculada sobre todas as estatisticas, como no caminho bloqueante
+ * @param userId o ID do usuario
+ * @param userName nome do usuario
+ * @param userEmail email do usuario
+ * @param value valor da estatistica (segundos no caso de minutos jogados)
+ */
+public record RankingRow(int position, UUID userId, String userName, String userEmail, long value) {
+}
@@ -0,0 +1,44 @@
+package br.com.futebol.infrastructure.user;
+
+import br.com.futebol.domain.user.UserProfile;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Linha do ranking bloqueante: a estatistica do tipo pedido com os dados do usuario na mesma consulta.
+ * Usuario ausente, inativo ou fora dos perfis do ranking conta para a posicao, mas nao aparece.
+ *
+ * @param userId o ID do usuario
+ * @param userName nome do usuario (null se o usuario nao existir)
+ * @param userEmail email do usuario
+ * @param active se o usuario esta ativo
+ * @param profile perfil do usuario
+ * @param value valor da estatistica (segundos no caso de minutos jogados)
+ */
+public record RankingStatisticsRow(UUID userId, String userName, String userEmail, Boolean active,
+                                   UserProfile profile, long value) {
+
+    /**
+     * Construtor usado pela projecao HQL (select new) dos contadores.
+     */
+    public RankingStatisticsRow(UUID userId, String userName, String userEmail, Boolean active,
+                                UserProfile profile, Integer value) {
+        this(userId, userName, userEmail, active, profile, value == null ? 0L : value.longValue());
+    }
+
+    /**
+     * Construtor usado pela projecao HQL (select new) dos minutos jogados.
+     */
+    public RankingStatisticsRow(UUID userId, String userName, String userEmail, Boolean active,
+                                UserProfile profile, Duration minutesPlayed) {
+        this(userId, userName, userEmail, active, profile, minutesPlayed == null ? 0L : minutesPlayed.getSeconds());
+    }
+
+    /**
+     * @return true se o usuario deve aparecer no ranking (ativo, ADMIN ou JOGADOR)
+     */
+    public boolean isRanked() {
+        return Boolean.TRUE.equals(active) && (profile == UserProfile.ADMIN || profile == UserProfile.JOGADOR);
+    }
+}
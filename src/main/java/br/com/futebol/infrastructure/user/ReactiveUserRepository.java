@@ -0,0 +1,32 @@
+package br.com.futebol.infrastructure.user;
+
+import br.com.futebol.domain.user.UserProfile;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@ApplicationScoped
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveUserRepository {
+
+    @Inject
+    Pool client;
+
+    /**
+     * @param id o ID do usuario
+     * @return Optional contendo o perfil se o usuario existir e estiver ativo
+     */
+    public Uni<Optional<UserProfile>> findActiveProfileById(UUID id) {
+        return client.preparedQuery("SELECT profile::text AS profile FROM users WHERE id = $1 AND active = TRUE")
+                .execute(Tuple.of(id))
+                .map(rows -> rows.size() == 0
+                        ? Optional.<UserProfile>empty()
+                        : Optional.of(UserProfile.valueOf(rows.iterator().next().getString("profile"))));
+    }
+}
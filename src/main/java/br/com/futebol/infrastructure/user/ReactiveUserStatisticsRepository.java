@@ -0,0 +1,69 @@
+package br.com.futebol.infrastructure.user;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveUserStatisticsRepository {
+
+    /**
+     * A posicao e numerada sobre todas as estatisticas antes de filtrar os usuarios,
+     * mantendo a mesma numeracao do UserStatisticsService.
+     */
+    private static final String RANKING_QUERY = """
+            SELECT ranked.position, u.id, u.full_name, u.email, ranked.value
+            FROM (
+                SELECT s.user_id, %1$s AS value, ROW_NUMBER() OVER (ORDER BY %1$s DESC) AS position
+                FROM user_statistics s
+            ) ranked
+            JOIN users u ON u.id = ranked.user_id
+            WHERE u.active = TRUE
+              AND u.profile IN ('ADMIN', 'JOGADOR')
+            ORDER BY ranked.position
+            """;
+
+    private static final Map<String, String> RANKING_QUERIES = Map.of(
+            "goals", RANKING_QUERY.formatted("s.goals"),
+            "complaints", RANKING_QUERY.formatted("s.complaints"),
+            "victories", RANKING_QUERY.formatted("s.victories"),
+            "draws", RANKING_QUERY.formatted("s.draws"),
+            "defeats", RANKING_QUERY.formatted("s.defeats"),
+            "minutes", RANKING_QUERY.formatted("s.minutes_played_seconds"));
+
+    @Inject
+    Pool client;
+
+    /**
+     * @param type tipo de ranking (goals, complaints, victories, draws, defeats, minutes)
+     * @return linhas do ranking ordenadas pela posicao
+     */
+    public Uni<List<RankingRow>> findRanking(String type) {
+        String query = RANKING_QUERIES.get(type);
+        if (query == null) {
+            return Uni.createFrom().failure(new IllegalArgumentException("Tipo de ranking invalido: " + type));
+        }
+
+        return client.query(query).execute()
+                .map(rows -> {
+                    List<RankingRow> ranking = new ArrayList<>(rows.size());
+                    for (Row row : rows) {
+                        ranking.add(new RankingRow(
+                                row.getLong("position").intValue(),
+                                row.getUUID("id"),
+                                row.getString("full_name"),
+                                row.getString("email"),
+                                row.getLong("value")));
+                    }
+                    return ranking;
+                });
+    }
+}
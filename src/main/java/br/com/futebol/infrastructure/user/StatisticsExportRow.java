@@ -0,0 +1,30 @@
+package br.com.futebol.infrastructure.user;
+
+import br.com.futebol.application.user.UserStatisticsService;
+import br.com.futebol.core.export.ExportRow;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Linha da exportacao de estatisticas; minutos jogados no formato HH:mm:ss, como na API.
+ */
+public record StatisticsExportRow(UUID userId, String fullName, String email, int goals, int complaints,
+                                  int victories, int draws, int defeats, String minutesPlayed) implements ExportRow {
+
+    /**
+     * Construtor usado pela projecao HQL (select new).
+     */
+    public StatisticsExportRow(UUID userId, String fullName, String email, Integer goals, Integer complaints,
+                               Integer victories, Integer draws, Integer defeats, Duration minutesPlayed) {
+        this(userId, fullName, email, goals, complaints, victories, draws, defeats,
+                UserStatisticsService.formatDuration(minutesPlayed));
+    }
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(userId, fullName, email, goals, complaints, victories, draws, defeats, minutesPlayed);
+    }
+}
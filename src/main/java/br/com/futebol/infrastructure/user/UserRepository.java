@@ -37,10 +37,18 @@ public class UserRepository implements PanacheRepositoryBase<User, UUID> {
     }
 
     /**
-     * @return lista de usuario ativos
+     * Projecao sem o hash da senha; as linhas nao entram no contexto de persistencia.
+     *
+     * @return lista de usuarios ativos
      */
-    public List<User> findAllActive() {
-        return list("active", true);
+    public List<UserRow> findAllActiveRows() {
+        return getEntityManager()
+                .createQuery("""
+                        select new br.com.futebol.infrastructure.user.UserRow(
+                            u.id, u.fullName, u.email, u.photo, u.profile, u.active, u.createdAt, u.updatedAt)
+                        from User u
+                        where u.active = true""", UserRow.class)
+                .getResultList();
     }
 
     /**
@@ -54,19 +62,13 @@ public class UserRepository implements PanacheRepositoryBase<User, UUID> {
     }
 
     /**
-     * @param id o ID do usuario
-     * @return Optional contendo o usuário se encontrado
-     */
-    public Optional<User> findByIdOptional(UUID id) {
-        return find("id = ?1", id).firstResultOptional();
-    }
-
-    /**
+     * Busca pela chave primaria (cache de segundo nivel) em vez de uma query.
+     *
      * @param id o ID do usuario
      * @return Optional contendo o usuario se encontrado e ativo
      */
     public Optional<User> findActiveById(UUID id) {
-        return find("id = ?1 and active = true", id).firstResultOptional();
+        return findByIdOptional(id).filter(user -> Boolean.TRUE.equals(user.getActive()));
     }
 }
 
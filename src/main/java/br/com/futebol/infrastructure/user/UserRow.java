@@ -0,0 +1,13 @@
+package br.com.futebol.infrastructure.user;
+
+import br.com.futebol.domain.user.UserProfile;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projecao de usuario para listagens: sem o hash da senha e fora do contexto de persistencia.
+ */
+public record UserRow(UUID id, String fullName, String email, String photo, UserProfile profile,
+                      Boolean active, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+}
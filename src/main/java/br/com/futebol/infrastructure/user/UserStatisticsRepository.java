@@ -1,17 +1,30 @@
 package br.com.futebol.infrastructure.user;
 
+import br.com.futebol.core.export.ExportWriter;
+import br.com.futebol.core.persistence.StatementTimeouts;
+import br.com.futebol.domain.user.UserProfile;
 import br.com.futebol.domain.user.UserStatistics;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class UserStatisticsRepository implements PanacheRepositoryBase<UserStatistics, UUID> {
 
+    /** Mesmo valor do @Timeout dos rankings: a consulta e cancelada no banco, nao apenas na thread chamadora. */
+    @ConfigProperty(name = "futebol.query-timeout.ranking", defaultValue = "2000")
+    int rankingQueryTimeoutMillis;
+
     /**
      * @param userId o ID do usuario
      * @return Optional contendo as estatisticas se encontradas
@@ -22,47 +35,130 @@ public class UserStatisticsRepository implements PanacheRepositoryBase<UserStati
     }
 
     /**
-     * @return Lista de estatísticas ordenadas por gols
+     * @return Linhas do ranking ordenadas por gols
      */
-    public List<UserStatistics> findRankingByGoals() {
-        return list("ORDER BY goals DESC");
+    @Bulkhead(3)
+    @Timeout(2000)
+    public List<RankingStatisticsRow> findRankingByGoals() {
+        return findRankingBy("goals");
     }
 
     /**
      * Busca ranking de reclamações ordenado do maior para o menor.
      *
-     * @return Lista de estatisticas ordenadas por reclamacoes
+     * @return Linhas do ranking ordenadas por reclamacoes
      */
-    public List<UserStatistics> findRankingByComplaints() {
-        return list("ORDER BY complaints DESC");
+    @Bulkhead(3)
+    @Timeout(2000)
+    public List<RankingStatisticsRow> findRankingByComplaints() {
+        return findRankingBy("complaints");
     }
 
     /**
-     * @return Lista de estatisticas ordenadas por vitorias
+     * @return Linhas do ranking ordenadas por vitorias
      */
-    public List<UserStatistics> findRankingByVictories() {
-        return list("ORDER BY victories DESC");
+    @Bulkhead(3)
+    @Timeout(2000)
+    public List<RankingStatisticsRow> findRankingByVictories() {
+        return findRankingBy("victories");
     }
 
     /**
-     * @return Lista de estatisticas ordenadas por empates
+     * @return Linhas do ranking ordenadas por empates
      */
-    public List<UserStatistics> findRankingByDraws() {
-        return list("ORDER BY draws DESC");
+    @Bulkhead(3)
+    @Timeout(2000)
+    public List<RankingStatisticsRow> findRankingByDraws() {
+        return findRankingBy("draws");
     }
 
     /**
-     * @return Lista de estatisticas ordenadas por derrotas
+     * @return Linhas do ranking ordenadas por derrotas
      */
-    public List<UserStatistics> findRankingByDefeats() {
-        return list("ORDER BY defeats DESC");
+    @Bulkhead(3)
+    @Timeout(2000)
+    public List<RankingStatisticsRow> findRankingByDefeats() {
+        return findRankingBy("defeats");
     }
 
     /**
-     * @return Lista de estatisticas ordenadas por minutos jogados
+     * @return Linhas do ranking ordenadas por minutos jogados
      */
-    public List<UserStatistics> findRankingByMinutesPlayed() {
-        return list("ORDER BY minutesPlayed DESC");
+    @Bulkhead(3)
+    @Timeout(2000)
+    public List<RankingStatisticsRow> findRankingByMinutesPlayed() {
+        return findRankingBy("minutesPlayed");
+    }
+
+    /**
+     * Projecao com os dados do usuario na mesma consulta (sem entidades gerenciadas e sem uma busca
+     * por usuario). O left join mantem estatisticas de usuarios removidos, que ainda contam para a posicao.
+     *
+     * @param metric atributo de UserStatistics usado no valor e na ordenacao (valor fixo, nunca entrada do cliente)
+     * @return linhas ordenadas pelo atributo, do maior para o menor
+     */
+    private List<RankingStatisticsRow> findRankingBy(String metric) {
+        return getEntityManager()
+                .createQuery("""
+                        select new br.com.futebol.infrastructure.user.RankingStatisticsRow(
+                            s.userId, u.fullName, u.email, u.active, u.profile, s.%1$s)
+                        from UserStatistics s left join User u on u.id = s.userId
+                        order by s.%1$s desc""".formatted(metric), RankingStatisticsRow.class)
+                .setHint(StatementTimeouts.QUERY_TIMEOUT_HINT, rankingQueryTimeoutMillis)
+                .getResultList();
+    }
+
+    /**
+     * @param userId o ID do usuario
+     * @param since inicio da janela (exclusivo)
+     * @return Optional com as estatisticas se alteradas depois de {@code since}
+     */
+    public Optional<UserStatistics> findByUserIdUpdatedSince(UUID userId, OffsetDateTime since) {
+        return find("userId = ?1 and updatedAt > ?2", userId, since).firstResultOptional();
+    }
+
+    /**
+     * Uma unica consulta (IN) para varios usuarios; ignora usuarios inativos e SUPER_ADMIN.
+     *
+     * @param userIds os IDs dos usuarios
+     * @return estatisticas encontradas, sem ordem definida
+     */
+    public List<UserStatistics> findByActiveUserIds(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return list("""
+                select s from UserStatistics s join User u on u.id = s.userId
+                where s.userId in ?1 and u.active = true and u.profile <> ?2""", userIds, UserProfile.SUPER_ADMIN);
+    }
+
+    /**
+     * Versao dos rankings: contador incrementado pelos triggers de user_statistics e users (V19)
+     * na mesma transacao da escrita, visivel a partir do commit.
+     *
+     * @return a versao atual, usada no ETag dos rankings
+     */
+    public String findRankingVersion() {
+        Number version = (Number) getEntityManager()
+                .createNativeQuery("SELECT version FROM ranking_version WHERE id = 1")
+                .getSingleResult();
+        return String.valueOf(version.longValue());
     }
-}
 
+    /**
+     * Cursor no servidor (fetch size) com projecao em records: as linhas nao entram no contexto de persistencia.
+     * Deve ser consumido dentro de uma transacao e fechado pelo chamador.
+     *
+     * @return estatisticas com nome e e-mail do usuario, ordenadas pelo nome
+     */
+    public Stream<StatisticsExportRow> streamForExport() {
+        return getEntityManager()
+                .createQuery("""
+                        select new br.com.futebol.infrastructure.user.StatisticsExportRow(
+                            s.userId, u.fullName, u.email, s.goals, s.complaints, s.victories, s.draws, s.defeats, s.minutesPlayed)
+                        from UserStatistics s join User u on u.id = s.userId
+                        order by u.fullName""", StatisticsExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ExportWriter.FETCH_SIZE)
+                .getResultStream();
+    }
+}
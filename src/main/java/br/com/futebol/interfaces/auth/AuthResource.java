@@ -1,6 +1,7 @@
 package br.com.futebol.interfaces.auth;
 
 import br.com.futebol.application.user.AuthService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -20,6 +21,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Autenticacao", description = "Operações de autenticacao")
+@RunOnVirtualThread
 public class AuthResource {
 
     @Inject
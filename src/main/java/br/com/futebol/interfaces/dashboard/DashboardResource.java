@@ -0,0 +1,56 @@
+package br.com.futebol.interfaces.dashboard;
+
+import br.com.futebol.application.dashboard.DashboardService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.UUID;
+
+@Path("/api/me")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Painel", description = "Dados da tela inicial do usuario autenticado")
+@SecurityRequirement(name = "jwt")
+@RunOnVirtualThread
+public class DashboardResource {
+
+    @Inject
+    DashboardService dashboardService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @Path("/dashboard")
+    @RolesAllowed({"JOGADOR", "ADMIN", "SUPER_ADMIN"})
+    @Operation(
+            summary = "Painel do usuario",
+            description = "Jogo liberado, minhas confirmacoes, status da votacao de pior do jogo e minhas estatisticas em uma chamada"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Painel do usuario",
+                    content = @Content(schema = @Schema(implementation = DashboardResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "404", description = "Usuario nao encontrado")
+    })
+    public Response dashboard() {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return Response.ok(dashboardService.getDashboard(userId)).build();
+    }
+}
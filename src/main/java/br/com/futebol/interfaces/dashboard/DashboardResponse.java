@@ -0,0 +1,33 @@
+package br.com.futebol.interfaces.dashboard;
+
+import br.com.futebol.interfaces.game.GameConfirmationResponse;
+import br.com.futebol.interfaces.game.GameResponse;
+import br.com.futebol.interfaces.game.WorstPlayerVotingStatusResponse;
+import br.com.futebol.interfaces.user.UserStatisticsResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Tela inicial do app em uma resposta. Campos nulos sao omitidos (sem jogo liberado, SUPER_ADMIN).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+
+    private GameResponse game;
+
+    private List<GameConfirmationResponse> myConfirmations;
+
+    private WorstPlayerVotingStatusResponse worstPlayerVoting;
+
+    /** Se o usuario ja votou na votacao de pior do jogo do jogo liberado. */
+    private Boolean hasVoted;
+
+    private UserStatisticsResponse statistics;
+}
@@ -0,0 +1,122 @@
+package br.com.futebol.interfaces.export;
+
+import br.com.futebol.application.export.ExportService;
+import br.com.futebol.core.export.ExportFormat;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+@Path("/api/exports")
+@Produces({ExportFormat.NDJSON_TYPE, ExportFormat.CSV_TYPE})
+@Tag(name = "Exportacoes", description = "Exportacao em stream (NDJSON ou CSV) para relatorios de temporada")
+@RunOnVirtualThread
+public class ExportResource {
+
+    @Inject
+    ExportService exportService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @Path("/statistics")
+    @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Exportar estatisticas", description = "Estatisticas de todos os usuarios (apenas ADMIN/SUPER_ADMIN)")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Linhas em NDJSON ou CSV"),
+            @APIResponse(responseCode = "400", description = "Formato invalido"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Response exportStatistics(@Parameter(description = "ndjson (padrao) ou csv")
+                                     @QueryParam("format") @DefaultValue("ndjson") String format) {
+        return export("statistics", format, exportService::writeStatistics);
+    }
+
+    @GET
+    @Path("/games")
+    @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Exportar jogos", description = "Todos os jogos (apenas ADMIN/SUPER_ADMIN)")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Linhas em NDJSON ou CSV"),
+            @APIResponse(responseCode = "400", description = "Formato invalido"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Response exportGames(@Parameter(description = "ndjson (padrao) ou csv")
+                                @QueryParam("format") @DefaultValue("ndjson") String format) {
+        return export("games", format, exportService::writeGames);
+    }
+
+    @GET
+    @Path("/confirmations")
+    @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Exportar confirmacoes", description = "Confirmacoes de presenca de todos os jogos (apenas ADMIN/SUPER_ADMIN)")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Linhas em NDJSON ou CSV"),
+            @APIResponse(responseCode = "400", description = "Formato invalido"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Response exportConfirmations(@Parameter(description = "ndjson (padrao) ou csv")
+                                        @QueryParam("format") @DefaultValue("ndjson") String format) {
+        return export("confirmations", format, exportService::writeConfirmations);
+    }
+
+    @GET
+    @Path("/worst-player-votes")
+    @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Exportar votos de pior do jogo", description = "Votos de pior do jogo de todos os jogos (apenas ADMIN/SUPER_ADMIN)")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Linhas em NDJSON ou CSV"),
+            @APIResponse(responseCode = "400", description = "Formato invalido"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Response exportWorstPlayerVotes(@Parameter(description = "ndjson (padrao) ou csv")
+                                           @QueryParam("format") @DefaultValue("ndjson") String format) {
+        return export("worst-player-votes", format, exportService::writeWorstPlayerVotes);
+    }
+
+    /**
+     * Permissao e formato sao validados antes do stream; as linhas sao escritas pelo {@link StreamingOutput}.
+     */
+    private Response export(String name, String format, ExportAction action) {
+        exportService.validateExportPermission(UUID.fromString(jwt.getSubject()));
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        StreamingOutput body = output -> action.write(exportFormat, output);
+        return Response.ok(body, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + exportFormat.getExtension() + "\"")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ExportAction {
+        long write(ExportFormat format, OutputStream output) throws IOException;
+    }
+}
@@ -2,6 +2,7 @@ package br.com.futebol.interfaces.game;
 
 import br.com.futebol.application.game.GameConfirmationService;
 import br.com.futebol.interfaces.game.AddConfirmedPlayerRequest;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -31,6 +32,7 @@ import java.util.UUID;
         scheme = "bearer",
         bearerFormat = "JWT"
 )
+@RunOnVirtualThread
 public class GameConfirmationResource {
 
     @Inject
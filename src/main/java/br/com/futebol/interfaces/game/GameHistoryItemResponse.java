@@ -0,0 +1,55 @@
+package br.com.futebol.interfaces.game;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameHistoryItemResponse {
+
+    private UUID id;
+
+    private String name;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+    private OffsetDateTime gameDate;
+
+    private Boolean released;
+
+    private Long playerCount;
+
+    private Long guestCount;
+
+    private Long totalConfirmations;
+
+    private VotingSummary worstPlayerVoting;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class VotingSummary {
+
+        private Boolean enabled;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        private OffsetDateTime openedAt;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        private OffsetDateTime closedAt;
+
+        private Long totalVotes;
+
+        /** Preenchido apenas depois do encerramento da votacao. */
+        private String leaderName;
+
+        private Long leaderVotes;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.futebol.interfaces.game;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameHistoryResponse {
+
+    private List<GameHistoryItemResponse> items;
+
+    /** Enviar em {@code cursor} para a proxima pagina; null na ultima pagina. */
+    private String nextCursor;
+
+    private Integer limit;
+}
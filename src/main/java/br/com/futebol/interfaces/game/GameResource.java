@@ -1,17 +1,22 @@
 package br.com.futebol.interfaces.game;
 
 import br.com.futebol.application.game.GameService;
+import br.com.futebol.core.http.ConditionalResponses;
 import br.com.futebol.interfaces.game.CreateGameResponse;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
@@ -32,6 +37,7 @@ import java.util.UUID;
         scheme = "bearer",
         bearerFormat = "JWT"
 )
+@RunOnVirtualThread
 public class GameResource {
 
     @Inject
@@ -71,6 +77,26 @@ public class GameResource {
         return Response.ok(games).build();
     }
 
+    @GET
+    @Path("/history")
+    @RolesAllowed({"JOGADOR", "ADMIN", "SUPER_ADMIN"})
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Historico de jogos", description = "Retorna os jogos do mais recente para o mais antigo, paginados por cursor, "
+            + "com totais de confirmacoes e resumo da votacao de pior do jogo")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Pagina do historico",
+                    content = @Content(schema = @Schema(implementation = GameHistoryResponse.class))),
+            @APIResponse(responseCode = "400", description = "Datas, cursor ou limite invalidos"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado")
+    })
+    public Response history(@Parameter(description = "Data inicial yyyy-MM-dd") @QueryParam("startDate") String startDate,
+                            @Parameter(description = "Data final yyyy-MM-dd") @QueryParam("endDate") String endDate,
+                            @Parameter(description = "nextCursor da pagina anterior") @QueryParam("cursor") String cursor,
+                            @Parameter(description = "Tamanho da pagina (1 a 100, padrao 20)") @QueryParam("limit") Integer limit) {
+        GameHistoryResponse history = gameService.findHistory(startDate, endDate, cursor, limit);
+        return Response.ok(history).build();
+    }
+
     @GET
     @Path("/{id}")
     @RolesAllowed({"JOGADOR", "ADMIN", "SUPER_ADMIN"})
@@ -79,12 +105,13 @@ public class GameResource {
     @APIResponses({
             @APIResponse(responseCode = "200", description = "Jogo encontrado",
                     content = @Content(schema = @Schema(implementation = GameResponse.class))),
+            @APIResponse(responseCode = "304", description = "Jogo nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "404", description = "Jogo nao encontrado")
     })
-    public Response findById(@PathParam("id") UUID id) {
+    public Response findById(@PathParam("id") UUID id, @Context Request request) {
         GameResponse game = gameService.findById(id);
-        return Response.ok(game).build();
+        return ConditionalResponses.entity(request, game.getId(), game.getUpdatedAt(), game);
     }
 
     @PUT
@@ -0,0 +1,67 @@
+package br.com.futebol.interfaces.game;
+
+import br.com.futebol.application.game.MatchResultService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.UUID;
+
+@Path("/api/games/{gameId}/match-results")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Resultados de Partidas", description = "Registro de placares entre os times de um jogo")
+@SecurityRequirement(name = "jwt")
+@RunOnVirtualThread
+public class MatchResultResource {
+
+    @Inject
+    MatchResultService matchResultService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @POST
+    @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
+    @Operation(summary = "Registrar resultado", description = "Registra o placar de uma partida entre dois times da divisao atual e atualiza vitorias, empates e derrotas de todos os jogadores dos dois times")
+    @APIResponses({
+            @APIResponse(responseCode = "201", description = "Resultado registrado com sucesso",
+                    content = @Content(schema = @Schema(implementation = MatchResultResponse.class))),
+            @APIResponse(responseCode = "400", description = "Dados invalidos ou times inexistentes na divisao"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado"),
+            @APIResponse(responseCode = "404", description = "Jogo nao encontrado")
+    })
+    public Response record(@PathParam("gameId") UUID gameId, @Valid RecordMatchResultRequest request) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        MatchResultResponse result = matchResultService.recordResult(gameId, request, userId);
+        return Response.status(Response.Status.CREATED).entity(result).build();
+    }
+
+    @GET
+    @RolesAllowed({"JOGADOR", "ADMIN", "SUPER_ADMIN"})
+    @Operation(summary = "Listar resultados", description = "Retorna os resultados das partidas do jogo na ordem em que foram registrados")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Lista de resultados",
+                    content = @Content(schema = @Schema(implementation = MatchResultResponse.class))),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "404", description = "Jogo nao encontrado")
+    })
+    public Response list(@PathParam("gameId") UUID gameId) {
+        List<MatchResultResponse> results = matchResultService.listResults(gameId);
+        return Response.ok(results).build();
+    }
+}
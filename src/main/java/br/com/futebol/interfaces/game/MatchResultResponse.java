@@ -0,0 +1,36 @@
+package br.com.futebol.interfaces.game;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchResultResponse {
+
+    private UUID id;
+
+    private UUID gameId;
+
+    private UUID teamDivisionId;
+
+    private Integer homeTeamNumber;
+
+    private Integer homeScore;
+
+    private Integer awayTeamNumber;
+
+    private Integer awayScore;
+
+    private Integer winnerTeamNumber; // null em caso de empate
+
+    private Integer updatedPlayers; // Jogadores com estatisticas atualizadas pelo resultado
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package br.com.futebol.interfaces.game;
+
+import br.com.futebol.application.game.ReactiveWorstPlayerVotingService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.UUID;
+
+/**
+ * Leituras de ranking da votacao de pior do jogo servidas no event loop
+ * pelo cliente reativo do PostgreSQL.
+ */
+@Path("/api/games/{gameId}/worst-player-voting")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Votacao Pior do Jogo", description = "Operacoes da votacao de pior do jogo")
+@SecurityRequirement(name = "jwt")
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveWorstPlayerVotingReadResource {
+
+    @Inject
+    ReactiveWorstPlayerVotingService reactiveWorstPlayerVotingService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @Path("/ranking")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(summary = "Ranking do pior do jogo", description = "Retorna o ranking de votos do pior do jogo para a partida")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = WorstPlayerRankingResponse.class))),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado"),
+            @APIResponse(responseCode = "404", description = "Jogo nao encontrado")
+    })
+    public Uni<WorstPlayerRankingResponse> ranking(@PathParam("gameId") UUID gameId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return reactiveWorstPlayerVotingService.getGameRanking(gameId, userId);
+    }
+
+    @GET
+    @Path("/history")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(summary = "Ranking historico de pior do jogo", description = "Retorna o ranking historico por intervalo de datas do jogo")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Ranking historico retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = WorstPlayerHistoricalRankingResponse.class))),
+            @APIResponse(responseCode = "400", description = "Datas invalidas"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<WorstPlayerHistoricalRankingResponse> history(@QueryParam("startDate") String startDate, @QueryParam("endDate") String endDate, @PathParam("gameId") UUID gameId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return reactiveWorstPlayerVotingService.getHistoricalRanking(startDate, endDate, userId);
+    }
+}
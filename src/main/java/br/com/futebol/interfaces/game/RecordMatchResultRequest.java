@@ -0,0 +1,29 @@
+package br.com.futebol.interfaces.game;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordMatchResultRequest {
+
+    @NotNull(message = "homeTeamNumber e obrigatorio")
+    @Min(value = 1, message = "Numero do time deve ser maior que zero")
+    private Integer homeTeamNumber;
+
+    @NotNull(message = "awayTeamNumber e obrigatorio")
+    @Min(value = 1, message = "Numero do time deve ser maior que zero")
+    private Integer awayTeamNumber;
+
+    @NotNull(message = "homeScore e obrigatorio")
+    @Min(value = 0, message = "Placar nao pode ser negativo")
+    private Integer homeScore;
+
+    @NotNull(message = "awayScore e obrigatorio")
+    @Min(value = 0, message = "Placar nao pode ser negativo")
+    private Integer awayScore;
+}
@@ -0,0 +1,73 @@
+package br.com.futebol.interfaces.game;
+
+import br.com.futebol.application.game.WorstPlayerVotingService;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.UUID;
+
+/**
+ * Leituras de ranking da votacao de pior do jogo pelo caminho bloqueante (JDBC).
+ * Substituido por {@link ReactiveWorstPlayerVotingReadResource} quando
+ * futebol.reactive-reads.enabled=true.
+ */
+@Path("/api/games/{gameId}/worst-player-voting")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Votacao Pior do Jogo", description = "Operacoes da votacao de pior do jogo")
+@SecurityRequirement(name = "jwt")
+@UnlessBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true", enableIfMissing = true)
+@RunOnVirtualThread
+public class WorstPlayerVotingReadResource {
+
+    @Inject
+    WorstPlayerVotingService worstPlayerVotingService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @Path("/ranking")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(summary = "Ranking do pior do jogo", description = "Retorna o ranking de votos do pior do jogo para a partida")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = WorstPlayerRankingResponse.class))),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado"),
+            @APIResponse(responseCode = "404", description = "Jogo nao encontrado")
+    })
+    public Response ranking(@PathParam("gameId") UUID gameId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return Response.ok(worstPlayerVotingService.getGameRanking(gameId, userId)).build();
+    }
+
+    @GET
+    @Path("/history")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(summary = "Ranking historico de pior do jogo", description = "Retorna o ranking historico por intervalo de datas do jogo")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Ranking historico retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = WorstPlayerHistoricalRankingResponse.class))),
+            @APIResponse(responseCode = "400", description = "Datas invalidas"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Response history(@QueryParam("startDate") String startDate, @QueryParam("endDate") String endDate, @PathParam("gameId") UUID gameId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return Response.ok(worstPlayerVotingService.getHistoricalRanking(startDate, endDate, userId)).build();
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.futebol.interfaces.game;
 
 import br.com.futebol.application.game.WorstPlayerVotingService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -31,6 +32,7 @@ import java.util.UUID;
         scheme = "bearer",
         bearerFormat = "JWT"
 )
+@RunOnVirtualThread
 public class WorstPlayerVotingResource {
 
     @Inject
@@ -122,40 +124,6 @@ public class WorstPlayerVotingResource {
         return Response.ok(worstPlayerVotingService.closeVoting(gameId, userId)).build();
     }
 
-    @GET
-    @Path("/ranking")
-    @RolesAllowed({"ADMIN", "JOGADOR"})
-    @SecurityRequirement(name = "jwt")
-    @Operation(summary = "Ranking do pior do jogo", description = "Retorna o ranking de votos do pior do jogo para a partida")
-    @APIResponses({
-            @APIResponse(responseCode = "200", description = "Ranking retornado com sucesso",
-                    content = @Content(schema = @Schema(implementation = WorstPlayerRankingResponse.class))),
-            @APIResponse(responseCode = "401", description = "Nao autorizado"),
-            @APIResponse(responseCode = "403", description = "Acesso negado"),
-            @APIResponse(responseCode = "404", description = "Jogo nao encontrado")
-    })
-    public Response ranking(@PathParam("gameId") UUID gameId) {
-        UUID userId = UUID.fromString(jwt.getSubject());
-        return Response.ok(worstPlayerVotingService.getGameRanking(gameId, userId)).build();
-    }
-
-    @GET
-    @Path("/history")
-    @RolesAllowed({"ADMIN", "JOGADOR"})
-    @SecurityRequirement(name = "jwt")
-    @Operation(summary = "Ranking historico de pior do jogo", description = "Retorna o ranking historico por intervalo de datas do jogo")
-    @APIResponses({
-            @APIResponse(responseCode = "200", description = "Ranking historico retornado com sucesso",
-                    content = @Content(schema = @Schema(implementation = WorstPlayerHistoricalRankingResponse.class))),
-            @APIResponse(responseCode = "400", description = "Datas invalidas"),
-            @APIResponse(responseCode = "401", description = "Nao autorizado"),
-            @APIResponse(responseCode = "403", description = "Acesso negado")
-    })
-    public Response history(@QueryParam("startDate") String startDate, @QueryParam("endDate") String endDate, @PathParam("gameId") UUID gameId) {
-        UUID userId = UUID.fromString(jwt.getSubject());
-        return Response.ok(worstPlayerVotingService.getHistoricalRanking(startDate, endDate, userId)).build();
-    }
-
     @GET
     @Path("/players/{confirmationId}/voters")
     @RolesAllowed({"ADMIN", "JOGADOR"})
@@ -0,0 +1,75 @@
+package br.com.futebol.interfaces.sync;
+
+import br.com.futebol.application.sync.SyncService;
+import br.com.futebol.core.exceptions.BusinessException;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+@Path("/api/sync")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Sincronizacao", description = "Sincronizacao incremental para os clientes moveis")
+@SecurityRequirement(name = "jwt")
+@RunOnVirtualThread
+public class SyncResource {
+
+    @Inject
+    SyncService syncService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @RolesAllowed({"JOGADOR", "ADMIN", "SUPER_ADMIN"})
+    @Operation(
+            summary = "Sincronizar alteracoes",
+            description = "Retorna jogos, confirmacoes, estatisticas e votos do usuario alterados desde o watermark "
+                    + "informado, os IDs removidos e o novo watermark. Sem since, retorna a carga completa."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Alteracoes desde o watermark",
+                    content = @Content(schema = @Schema(implementation = SyncResponse.class))
+            ),
+            @APIResponse(responseCode = "400", description = "Watermark invalido"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "404", description = "Usuario nao encontrado")
+    })
+    public Response sync(@Parameter(description = "Watermark da sincronizacao anterior (ISO-8601)")
+                         @QueryParam("since") String since) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return Response.ok(syncService.sync(userId, parseSince(since))).build();
+    }
+
+    private OffsetDateTime parseSince(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            // "+" do offset chega como espaco quando o cliente nao codifica a query string
+            return OffsetDateTime.parse(since.trim().replace(' ', '+'));
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Parametro since invalido: use o watermark retornado pela sincronizacao anterior");
+        }
+    }
+}
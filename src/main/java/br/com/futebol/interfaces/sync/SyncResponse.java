@@ -0,0 +1,45 @@
+package br.com.futebol.interfaces.sync;
+
+import br.com.futebol.interfaces.game.GameConfirmationResponse;
+import br.com.futebol.interfaces.game.GameResponse;
+import br.com.futebol.interfaces.game.WorstPlayerVoteResponse;
+import br.com.futebol.interfaces.user.UserStatisticsResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listas vazias e campos nulos sao omitidos: sem alteracoes, a resposta contem apenas o watermark.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class SyncResponse {
+
+    /** Valor a enviar em {@code since} na proxima sincronizacao (precisao completa, sem truncar). */
+    private OffsetDateTime watermark;
+
+    /** true quando a resposta e a carga completa: o cliente descarta os dados locais antes de aplicar. */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean fullSync;
+
+    private List<GameResponse> games;
+
+    private List<GameConfirmationResponse> confirmations;
+
+    private UserStatisticsResponse statistics;
+
+    private List<WorstPlayerVoteResponse> votes;
+
+    private List<UUID> deletedGameIds;
+
+    private List<UUID> deletedConfirmationIds;
+
+    private List<UUID> deletedVoteIds;
+}
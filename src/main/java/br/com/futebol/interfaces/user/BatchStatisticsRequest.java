@@ -0,0 +1,23 @@
+package br.com.futebol.interfaces.user;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchStatisticsRequest {
+
+    public static final int MAX_USER_IDS = 100;
+
+    @NotEmpty(message = "Lista de usuarios nao pode estar vazia")
+    @Size(max = MAX_USER_IDS, message = "Informe no maximo " + MAX_USER_IDS + " usuarios por consulta")
+    private List<@NotNull(message = "userId é obrigatorio") UUID> userIds;
+}
@@ -0,0 +1,23 @@
+package br.com.futebol.interfaces.user;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchStatisticsResponse {
+
+    /** Estatisticas por userId, na ordem da requisicao. */
+    private Map<UUID, UserStatisticsResponse> statistics;
+
+    /** IDs sem estatisticas: inexistentes, inativos, SUPER_ADMIN ou sem registro. */
+    private List<UUID> missingUserIds;
+
+    private Integer total;
+}
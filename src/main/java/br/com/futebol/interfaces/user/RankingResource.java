@@ -1,10 +1,15 @@
 package br.com.futebol.interfaces.user;
 
 import br.com.futebol.application.user.UserStatisticsService;
+import br.com.futebol.core.http.ConditionalResponses;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -21,6 +26,8 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Rankings", description = "Operacoes de ranking de estatisticas de usuarios")
 @SecurityRequirement(name = "jwt")
+@UnlessBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true", enableIfMissing = true)
+@RunOnVirtualThread
 public class RankingResource {
 
     @Inject
@@ -42,12 +49,13 @@ public class RankingResource {
                     description = "Ranking retornado com sucesso",
                     content = @Content(schema = @Schema(implementation = RankingResponse.class))
             ),
+            @APIResponse(responseCode = "304", description = "Ranking nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado")
     })
-    public Response getRankingByGoals() {
-        RankingResponse response = userStatisticsService.getRankingByGoals();
-        return Response.ok(response).build();
+    public Response getRankingByGoals(@Context Request request) {
+        return ConditionalResponses.aggregate(request, "goals", userStatisticsService.getRankingVersion(),
+                userStatisticsService::getRankingByGoals);
     }
 
     @GET
@@ -63,12 +71,13 @@ public class RankingResource {
                     description = "Ranking retornado com sucesso",
                     content = @Content(schema = @Schema(implementation = RankingResponse.class))
             ),
+            @APIResponse(responseCode = "304", description = "Ranking nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado")
     })
-    public Response getRankingByComplaints() {
-        RankingResponse response = userStatisticsService.getRankingByComplaints();
-        return Response.ok(response).build();
+    public Response getRankingByComplaints(@Context Request request) {
+        return ConditionalResponses.aggregate(request, "complaints", userStatisticsService.getRankingVersion(),
+                userStatisticsService::getRankingByComplaints);
     }
 
     @GET
@@ -84,12 +93,13 @@ public class RankingResource {
                     description = "Ranking retornado com sucesso",
                     content = @Content(schema = @Schema(implementation = RankingResponse.class))
             ),
+            @APIResponse(responseCode = "304", description = "Ranking nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado")
     })
-    public Response getRankingByVictories() {
-        RankingResponse response = userStatisticsService.getRankingByVictories();
-        return Response.ok(response).build();
+    public Response getRankingByVictories(@Context Request request) {
+        return ConditionalResponses.aggregate(request, "victories", userStatisticsService.getRankingVersion(),
+                userStatisticsService::getRankingByVictories);
     }
 
     @GET
@@ -105,12 +115,13 @@ public class RankingResource {
                     description = "Ranking retornado com sucesso",
                     content = @Content(schema = @Schema(implementation = RankingResponse.class))
             ),
+            @APIResponse(responseCode = "304", description = "Ranking nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado")
     })
-    public Response getRankingByDraws() {
-        RankingResponse response = userStatisticsService.getRankingByDraws();
-        return Response.ok(response).build();
+    public Response getRankingByDraws(@Context Request request) {
+        return ConditionalResponses.aggregate(request, "draws", userStatisticsService.getRankingVersion(),
+                userStatisticsService::getRankingByDraws);
     }
 
     @GET
@@ -126,12 +137,13 @@ public class RankingResource {
                     description = "Ranking retornado com sucesso",
                     content = @Content(schema = @Schema(implementation = RankingResponse.class))
             ),
+            @APIResponse(responseCode = "304", description = "Ranking nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado")
     })
-    public Response getRankingByDefeats() {
-        RankingResponse response = userStatisticsService.getRankingByDefeats();
-        return Response.ok(response).build();
+    public Response getRankingByDefeats(@Context Request request) {
+        return ConditionalResponses.aggregate(request, "defeats", userStatisticsService.getRankingVersion(),
+                userStatisticsService::getRankingByDefeats);
     }
 
     @GET
@@ -147,12 +159,12 @@ public class RankingResource {
                     description = "Ranking retornado com sucesso",
                     content = @Content(schema = @Schema(implementation = RankingResponse.class))
             ),
+            @APIResponse(responseCode = "304", description = "Ranking nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado")
     })
-    public Response getRankingByMinutesPlayed() {
-        RankingResponse response = userStatisticsService.getRankingByMinutesPlayed();
-        return Response.ok(response).build();
+    public Response getRankingByMinutesPlayed(@Context Request request) {
+        return ConditionalResponses.aggregate(request, "minutes-played", userStatisticsService.getRankingVersion(),
+                userStatisticsService::getRankingByMinutesPlayed);
     }
 }
-
@@ -0,0 +1,157 @@
+package br.com.futebol.interfaces.user;
+
+import br.com.futebol.application.user.ReactiveUserStatisticsService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * Rankings servidos no event loop pelo cliente reativo do PostgreSQL.
+ * Substitui {@link RankingResource} quando futebol.reactive-reads.enabled=true.
+ */
+@Path("/api/ranking")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Rankings", description = "Operacoes de ranking de estatisticas de usuarios")
+@SecurityRequirement(name = "jwt")
+@IfBuildProperty(name = "futebol.reactive-reads.enabled", stringValue = "true")
+public class ReactiveRankingResource {
+
+    @Inject
+    ReactiveUserStatisticsService reactiveUserStatisticsService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @GET
+    @Path("/goals")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(
+            summary = "Ranking de Gols",
+            description = "Retorna o ranking de gols ordenado do maior para o menor. Apenas ADMIN e JOGADOR podem consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<RankingResponse> getRankingByGoals() {
+        return reactiveUserStatisticsService.getRankingByGoals();
+    }
+
+    @GET
+    @Path("/complaints")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(
+            summary = "Ranking de Reclamacoes",
+            description = "Retorna o ranking de reclamacoes ordenado do maior para o menor. Apenas ADMIN e JOGADOR podem consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<RankingResponse> getRankingByComplaints() {
+        return reactiveUserStatisticsService.getRankingByComplaints();
+    }
+
+    @GET
+    @Path("/victories")
+    @RolesAllowed({"ADMIN", "JOGADOR"})
+    @Operation(
+            summary = "Ranking de Vitórias",
+            description = "Retorna o ranking de vitorias ordenado do maior para o menor. Apenas ADMIN e JOGADOR podem consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<RankingResponse> getRankingByVictories() {
+        return reactiveUserStatisticsService.getRankingByVictories();
+    }
+
+    @GET
+    @Path("/draws")
+    @RolesAllowed({"ADMIN", "JOGADOR", "SUPER_ADMIN"})
+    @Operation(
+            summary = "Ranking de Empates",
+            description = "Retorna o ranking de empates ordenado do maior para o menor. Apenas ADMIN e JOGADOR podem consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<RankingResponse> getRankingByDraws() {
+        return reactiveUserStatisticsService.getRankingByDraws();
+    }
+
+    @GET
+    @Path("/defeats")
+    @RolesAllowed({"ADMIN", "JOGADOR", "SUPER_ADMIN"})
+    @Operation(
+            summary = "Ranking de Derrotas",
+            description = "Retorna o ranking de derrotas ordenado do maior para o menor. Apenas ADMIN e JOGADOR podem consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<RankingResponse> getRankingByDefeats() {
+        return reactiveUserStatisticsService.getRankingByDefeats();
+    }
+
+    @GET
+    @Path("/minutes-played")
+    @RolesAllowed({"ADMIN", "JOGADOR", "SUPER_ADMIN"})
+    @Operation(
+            summary = "Ranking de Minutos Jogados",
+            description = "Retorna o ranking de minutos jogados ordenado do maior para o menor. Apenas ADMIN e JOGADOR podem consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranking retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingResponse.class))
+            ),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public Uni<RankingResponse> getRankingByMinutesPlayed() {
+        return reactiveUserStatisticsService.getRankingByMinutesPlayed();
+    }
+}
+
@@ -1,12 +1,15 @@
 package br.com.futebol.interfaces.user;
 
 import br.com.futebol.application.user.UserService;
+import br.com.futebol.core.http.ConditionalResponses;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.microprofile.jwt.JsonWebToken;
@@ -33,6 +36,7 @@ import java.util.UUID;
         scheme = "bearer",
         bearerFormat = "JWT"
 )
+@RunOnVirtualThread
 public class UserResource {
 
     @Inject
@@ -64,13 +68,14 @@ public class UserResource {
     @APIResponses({
             @APIResponse(responseCode = "200", description = "Usuario encontrado",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @APIResponse(responseCode = "304", description = "Usuario nao mudou desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado"),
             @APIResponse(responseCode = "403", description = "Acesso negado"),
             @APIResponse(responseCode = "404", description = "Usuario nao encontrado")
     })
-    public Response findById(@PathParam("id") UUID id) {
+    public Response findById(@PathParam("id") UUID id, @Context Request request) {
         UserResponse user = userService.findById(id);
-        return Response.ok(user).build();
+        return ConditionalResponses.entity(request, user.getId(), user.getUpdatedAt(), user);
     }
 
     @GET
@@ -81,12 +86,13 @@ public class UserResource {
     @APIResponses({
             @APIResponse(responseCode = "200", description = "Dados do usuario",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @APIResponse(responseCode = "304", description = "Dados nao mudaram desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Nao autorizado")
     })
-    public Response me(@Context SecurityContext securityContext) {
+    public Response me(@Context SecurityContext securityContext, @Context Request request) {
         String userId = jwt.getSubject();
         UserResponse user = userService.findById(UUID.fromString(userId));
-        return Response.ok(user).build();
+        return ConditionalResponses.entity(request, user.getId(), user.getUpdatedAt(), user);
     }
 
     @POST
@@ -2,13 +2,16 @@ package br.com.futebol.interfaces.user;
 
 import br.com.futebol.application.user.UserStatisticsService;
 import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.http.ConditionalResponses;
 import br.com.futebol.core.exceptions.UnauthorizedException;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.microprofile.jwt.JsonWebToken;
@@ -27,6 +30,7 @@ import java.util.UUID;
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Estatísticas de usuarios", description = "Operacoes de gerenciamento de estatisticas de usuarios")
 @SecurityRequirement(name = "jwt")
+@RunOnVirtualThread
 public class UserStatisticsResource {
 
     @Inject
@@ -82,18 +86,45 @@ public class UserStatisticsResource {
                     content = @Content(schema = @Schema(implementation = UserStatisticsResponse.class))
             ),
             @APIResponse(responseCode = "204", description = "Usuario sem estatisticas cadastradas"),
+            @APIResponse(responseCode = "304", description = "Estatisticas nao mudaram desde o ETag informado"),
             @APIResponse(responseCode = "401", description = "Não autorizado"),
             @APIResponse(responseCode = "400", description = "usuario SUPER_ADMIN não possui estatisticas")
     })
-    public Response getMyStatistics(@Context SecurityContext securityContext) {
+    public Response getMyStatistics(@Context SecurityContext securityContext, @Context Request request) {
         String userId = jwt.getSubject();
         UUID userUuid = UUID.fromString(userId);
 
         return userStatisticsService.findCurrentUserStatistics(userUuid)
-                .map(response -> Response.ok(response).build())
+                .map(response -> ConditionalResponses.entity(request, response.getId(), response.getUpdatedAt(), response))
                 .orElseGet(() -> Response.noContent().build());
     }
 
+    @POST
+    @Path("/statistics/batch")
+    @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
+    @Operation(
+            summary = "Buscar estatisticas de varios usuarios",
+            description = "Retorna as estatisticas de ate " + BatchStatisticsRequest.MAX_USER_IDS
+                    + " usuarios em uma unica chamada, indexadas por userId. Apenas ADMIN pode consultar."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Estatisticas encontradas",
+                    content = @Content(schema = @Schema(implementation = BatchStatisticsResponse.class))
+            ),
+            @APIResponse(responseCode = "400", description = "Lista vazia ou com mais IDs que o permitido"),
+            @APIResponse(responseCode = "401", description = "Nao autorizado"),
+            @APIResponse(responseCode = "403", description = "Acesso negado - apenas ADMIN pode consultar")
+    })
+    public Response findStatisticsBatch(@Valid BatchStatisticsRequest request) {
+        UUID authenticatedUserUuid = UUID.fromString(jwt.getSubject());
+
+        BatchStatisticsResponse response = userStatisticsService.findByUserIds(authenticatedUserUuid, request.getUserIds());
+
+        return Response.ok(response).build();
+    }
+
     @PUT
     @Path("/{userId}/statistics")
     @RolesAllowed({"ADMIN", "SUPER_ADMIN"})
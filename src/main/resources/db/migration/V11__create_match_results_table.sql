@@ -0,0 +1,68 @@
+-- =============================================================================
+-- V11__create_match_results_table.sql
+-- Criação da tabela de resultados das partidas entre os times de uma divisão
+-- =============================================================================
+
+CREATE TABLE match_results (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    game_id UUID NOT NULL,
+    team_division_id UUID NOT NULL,
+    home_team_number INTEGER NOT NULL,
+    away_team_number INTEGER NOT NULL,
+    home_score INTEGER NOT NULL DEFAULT 0,
+    away_score INTEGER NOT NULL DEFAULT 0,
+    recorded_by_user_id UUID NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_match_results_game
+        FOREIGN KEY (game_id)
+        REFERENCES games(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_match_results_team_division
+        FOREIGN KEY (team_division_id)
+        REFERENCES team_divisions(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_match_results_recorded_by_user
+        FOREIGN KEY (recorded_by_user_id)
+        REFERENCES users(id)
+        ON DELETE RESTRICT,
+
+    CONSTRAINT ck_match_results_distinct_teams
+        CHECK (home_team_number <> away_team_number),
+
+    CONSTRAINT ck_match_results_scores
+        CHECK (home_score >= 0 AND away_score >= 0)
+);
+
+-- Índices para otimização
+CREATE INDEX idx_match_results_game_id ON match_results(game_id);
+CREATE INDEX idx_match_results_team_division_id ON match_results(team_division_id);
+
+-- Usado pela atualização em lote das estatísticas dos jogadores de cada time
+CREATE INDEX idx_team_division_players_division_team ON team_division_players(team_division_id, team_number);
+
+-- Comentários
+COMMENT ON TABLE match_results IS 'Resultados das partidas disputadas entre os times de uma divisão';
+COMMENT ON COLUMN match_results.team_division_id IS 'Divisão de times usada na partida';
+COMMENT ON COLUMN match_results.home_team_number IS 'Número do primeiro time (team_division_players.team_number)';
+COMMENT ON COLUMN match_results.away_team_number IS 'Número do segundo time (team_division_players.team_number)';
+COMMENT ON COLUMN match_results.home_score IS 'Gols do primeiro time';
+COMMENT ON COLUMN match_results.away_score IS 'Gols do segundo time';
+COMMENT ON COLUMN match_results.recorded_by_user_id IS 'ID do usuário que registrou o resultado';
+
+-- Trigger para atualizar updated_at automaticamente
+CREATE OR REPLACE FUNCTION update_match_results_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_update_match_results_updated_at
+    BEFORE UPDATE ON match_results
+    FOR EACH ROW
+    EXECUTE FUNCTION update_match_results_updated_at();
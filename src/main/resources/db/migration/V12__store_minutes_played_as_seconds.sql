@@ -0,0 +1,31 @@
+-- =============================================================================
+-- V12__store_minutes_played_as_seconds.sql
+-- Minutos jogados passam de INTERVAL para BIGINT (total de segundos) e os
+-- rankings de estatísticas ganham índices em ordem decrescente
+-- =============================================================================
+
+ALTER TABLE user_statistics
+    ALTER COLUMN minutes_played DROP DEFAULT;
+
+ALTER TABLE user_statistics
+    ALTER COLUMN minutes_played TYPE BIGINT USING EXTRACT(EPOCH FROM minutes_played)::BIGINT;
+
+ALTER TABLE user_statistics
+    RENAME COLUMN minutes_played TO minutes_played_seconds;
+
+ALTER TABLE user_statistics
+    ALTER COLUMN minutes_played_seconds SET DEFAULT 0;
+
+-- Índices dos rankings (ORDER BY <metrica> DESC)
+DROP INDEX IF EXISTS idx_user_statistics_goals;
+DROP INDEX IF EXISTS idx_user_statistics_victories;
+
+CREATE INDEX idx_user_statistics_goals_desc ON user_statistics(goals DESC);
+CREATE INDEX idx_user_statistics_complaints_desc ON user_statistics(complaints DESC);
+CREATE INDEX idx_user_statistics_victories_desc ON user_statistics(victories DESC);
+CREATE INDEX idx_user_statistics_draws_desc ON user_statistics(draws DESC);
+CREATE INDEX idx_user_statistics_defeats_desc ON user_statistics(defeats DESC);
+CREATE INDEX idx_user_statistics_minutes_played_seconds_desc ON user_statistics(minutes_played_seconds DESC);
+
+-- Comentários
+COMMENT ON COLUMN user_statistics.minutes_played_seconds IS 'Total de tempo jogado em segundos (API expõe HH:mm:ss)';
@@ -0,0 +1,19 @@
+-- =============================================================================
+-- V13__add_unique_released_game_index.sql
+-- Garante no banco que existe no máximo um jogo com released = true
+-- =============================================================================
+
+-- Mantém liberado apenas o jogo criado mais recentemente
+UPDATE games SET released = FALSE
+WHERE released
+  AND id <> (
+      SELECT id FROM games
+      WHERE released
+      ORDER BY created_at DESC
+      LIMIT 1
+  );
+
+-- Índice único parcial: substitui o índice simples de released
+DROP INDEX IF EXISTS idx_games_released;
+
+CREATE UNIQUE INDEX uk_games_released ON games(released) WHERE released;
@@ -0,0 +1,47 @@
+-- =============================================================================
+-- V14__add_sync_indexes_and_tombstones.sql
+-- Suporte ao GET /api/sync: índices em updated_at e registro de exclusões
+-- =============================================================================
+
+-- Índices para buscar apenas o que mudou desde a última sincronização
+CREATE INDEX idx_games_updated_at ON games(updated_at);
+CREATE INDEX idx_game_confirmations_updated_at ON game_confirmations(updated_at);
+CREATE INDEX idx_game_worst_player_votes_voter_user_id_updated_at ON game_worst_player_votes(voter_user_id, updated_at);
+-- user_statistics é lida por usuário (uma linha), já coberta pelo índice único de user_id
+
+-- Exclusões físicas não deixam linha com updated_at; o trigger registra o ID removido
+CREATE TABLE sync_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(64) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
+
+COMMENT ON TABLE sync_tombstones IS 'IDs removidos, consultados pelos clientes na sincronização incremental';
+COMMENT ON COLUMN sync_tombstones.entity_type IS 'Nome da tabela de origem (games, game_confirmations, game_worst_player_votes)';
+
+CREATE OR REPLACE FUNCTION record_sync_tombstone()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO sync_tombstones (entity_type, entity_id) VALUES (TG_TABLE_NAME, OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Também dispara nas exclusões em cascata (ON DELETE CASCADE)
+CREATE TRIGGER trigger_games_sync_tombstone
+    AFTER DELETE ON games
+    FOR EACH ROW
+    EXECUTE FUNCTION record_sync_tombstone();
+
+CREATE TRIGGER trigger_game_confirmations_sync_tombstone
+    AFTER DELETE ON game_confirmations
+    FOR EACH ROW
+    EXECUTE FUNCTION record_sync_tombstone();
+
+CREATE TRIGGER trigger_game_worst_player_votes_sync_tombstone
+    AFTER DELETE ON game_worst_player_votes
+    FOR EACH ROW
+    EXECUTE FUNCTION record_sync_tombstone();
@@ -0,0 +1,7 @@
+-- =============================================================================
+-- V15__add_ranking_version_indexes.sql
+-- Índices para a versão dos rankings (ETag): MAX(updated_at) lido pelo índice
+-- =============================================================================
+
+CREATE INDEX idx_user_statistics_updated_at ON user_statistics(updated_at);
+CREATE INDEX idx_users_updated_at ON users(updated_at);
@@ -0,0 +1,9 @@
+-- =============================================================================
+-- V16__add_games_history_keyset_index.sql
+-- Paginação por keyset do histórico de jogos: (game_date, id) no mesmo índice
+-- =============================================================================
+
+-- Substitui o índice simples de game_date; as buscas por intervalo de data continuam usando o prefixo
+DROP INDEX IF EXISTS idx_games_game_date;
+
+CREATE INDEX idx_games_game_date_id ON games(game_date DESC, id DESC);
@@ -0,0 +1,17 @@
+-- =============================================================================
+-- V17__prune_sync_tombstones.sql
+-- Retencao de sync_tombstones: cada exclusao descarta os registros com mais de 30 dias.
+-- Clientes com watermark mais antigo recebem a carga completa (SyncService.TOMBSTONE_RETENTION).
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION record_sync_tombstone()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO sync_tombstones (entity_type, entity_id) VALUES (TG_TABLE_NAME, OLD.id);
+    -- Usa idx_sync_tombstones_deleted_at; normalmente nao ha nada a remover
+    DELETE FROM sync_tombstones WHERE deleted_at < CURRENT_TIMESTAMP - INTERVAL '30 days';
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DELETE FROM sync_tombstones WHERE deleted_at < CURRENT_TIMESTAMP - INTERVAL '30 days';
@@ -0,0 +1,27 @@
+-- =============================================================================
+-- V18__add_owner_to_sync_tombstones.sql
+-- Exclusoes de confirmacoes e votos tambem sao filtradas por usuario no GET /api/sync:
+-- o trigger passa a registrar os usuarios relacionados a linha removida
+-- =============================================================================
+
+ALTER TABLE sync_tombstones ADD COLUMN user_id UUID;
+ALTER TABLE sync_tombstones ADD COLUMN confirmed_by_user_id UUID;
+
+COMMENT ON COLUMN sync_tombstones.user_id IS 'Usuario da confirmacao (user_id) ou do voto (voter_user_id) removido';
+COMMENT ON COLUMN sync_tombstones.confirmed_by_user_id IS 'Usuario que confirmou o convidado removido';
+
+CREATE OR REPLACE FUNCTION record_sync_tombstone()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_row JSONB := to_jsonb(OLD);
+BEGIN
+    -- Tabelas sem as colunas (games) gravam NULL
+    INSERT INTO sync_tombstones (entity_type, entity_id, user_id, confirmed_by_user_id)
+    VALUES (TG_TABLE_NAME, OLD.id,
+            COALESCE(old_row->>'user_id', old_row->>'voter_user_id')::UUID,
+            (old_row->>'confirmed_by_user_id')::UUID);
+    -- Usa idx_sync_tombstones_deleted_at; normalmente nao ha nada a remover
+    DELETE FROM sync_tombstones WHERE deleted_at < CURRENT_TIMESTAMP - INTERVAL '30 days';
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,39 @@
+-- =============================================================================
+-- V19__add_ranking_version_counter.sql
+-- Versão dos rankings (ETag) como contador incrementado na mesma transação da escrita.
+-- MAX(updated_at) guarda o início da transação: uma transação longa confirmada depois de uma
+-- curta não movia a versão. O contador fica visível junto com os dados, no commit.
+-- Escritas concorrentes em user_statistics/users aguardam o lock da linha até o commit anterior.
+-- =============================================================================
+
+CREATE TABLE ranking_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO ranking_version (id, version) VALUES (1, 1);
+
+COMMENT ON TABLE ranking_version IS 'Versão dos dados dos rankings, incrementada a cada escrita em user_statistics ou users';
+
+CREATE OR REPLACE FUNCTION bump_ranking_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE ranking_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Por comando: uma atualização em lote incrementa uma única vez
+CREATE TRIGGER trigger_user_statistics_ranking_version
+    AFTER INSERT OR UPDATE OR DELETE ON user_statistics
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_ranking_version();
+
+CREATE TRIGGER trigger_users_ranking_version
+    AFTER INSERT OR UPDATE OR DELETE ON users
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_ranking_version();
+
+-- Substituídos pelo contador
+DROP INDEX idx_user_statistics_updated_at;
+DROP INDEX idx_users_updated_at;
@@ -0,0 +1,116 @@
+package br.com.futebol.application.dashboard;
+
+import br.com.futebol.domain.game.Game;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.domain.user.UserStatistics;
+import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameConfirmationRow;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.GameWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import br.com.futebol.interfaces.dashboard.DashboardResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashboardServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final GameConfirmationRepository gameConfirmationRepository = mock(GameConfirmationRepository.class);
+    private final GameWorstPlayerVoteRepository gameWorstPlayerVoteRepository = mock(GameWorstPlayerVoteRepository.class);
+    private final UserStatisticsRepository userStatisticsRepository = mock(UserStatisticsRepository.class);
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID gameId = UUID.randomUUID();
+
+    private DashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DashboardService();
+        service.userRepository = userRepository;
+        service.gameRepository = gameRepository;
+        service.gameConfirmationRepository = gameConfirmationRepository;
+        service.gameWorstPlayerVoteRepository = gameWorstPlayerVoteRepository;
+        service.userStatisticsRepository = userStatisticsRepository;
+    }
+
+    @Test
+    void shouldAssembleDashboardResolvingUserAndGameOnce() {
+        givenUser(UserProfile.JOGADOR);
+        when(gameRepository.findReleased()).thenReturn(Optional.of(Game.builder()
+                .id(gameId)
+                .name("Quinta")
+                .gameDate(OffsetDateTime.now())
+                .released(true)
+                .worstPlayerVotingEnabled(true)
+                .build()));
+        when(gameConfirmationRepository.findRowsByGameIdAndUserRelated(gameId, userId)).thenReturn(List.of(new GameConfirmationRow(
+                UUID.randomUUID(), gameId, userId, "Jogador", false, null, OffsetDateTime.now(), null, null)));
+        when(gameWorstPlayerVoteRepository.existsByGameIdAndVoterUserId(gameId, userId)).thenReturn(true);
+        when(userStatisticsRepository.findByUserId(userId)).thenReturn(Optional.of(UserStatistics.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .goals(4)
+                .build()));
+
+        DashboardResponse dashboard = service.getDashboard(userId);
+
+        assertEquals(gameId, dashboard.getGame().getId());
+        assertEquals(1, dashboard.getMyConfirmations().size());
+        assertTrue(dashboard.getWorstPlayerVoting().getVotingEnabled());
+        assertTrue(dashboard.getHasVoted());
+        assertEquals(4, dashboard.getStatistics().getGoals());
+        verify(userRepository, times(1)).findActiveById(userId);
+        verify(gameRepository, times(1)).findReleased();
+        verify(gameRepository, never()).findByIdOptional(any());
+    }
+
+    @Test
+    void shouldReturnOnlyStatisticsWithoutReleasedGame() {
+        givenUser(UserProfile.JOGADOR);
+        when(gameRepository.findReleased()).thenReturn(Optional.empty());
+        when(userStatisticsRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        DashboardResponse dashboard = service.getDashboard(userId);
+
+        assertNull(dashboard.getGame());
+        assertNull(dashboard.getMyConfirmations());
+        assertNull(dashboard.getStatistics());
+        verifyNoInteractions(gameConfirmationRepository, gameWorstPlayerVoteRepository);
+    }
+
+    @Test
+    void shouldSkipStatisticsAndVotingForSuperAdmin() {
+        givenUser(UserProfile.SUPER_ADMIN);
+        when(gameRepository.findReleased()).thenReturn(Optional.of(Game.builder().id(gameId).released(true).build()));
+        when(gameConfirmationRepository.findRowsByGameIdAndUserRelated(gameId, userId)).thenReturn(List.of());
+
+        DashboardResponse dashboard = service.getDashboard(userId);
+
+        assertEquals(gameId, dashboard.getGame().getId());
+        assertNull(dashboard.getStatistics());
+        assertNull(dashboard.getWorstPlayerVoting());
+        verifyNoInteractions(userStatisticsRepository, gameWorstPlayerVoteRepository);
+    }
+
+    private void givenUser(UserProfile profile) {
+        when(userRepository.findActiveById(userId)).thenReturn(Optional.of(User.builder()
+                .id(userId)
+                .fullName("Jogador")
+                .profile(profile)
+                .active(true)
+                .build()));
+    }
+}
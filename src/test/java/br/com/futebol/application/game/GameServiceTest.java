@@ -0,0 +1,186 @@
+package br.com.futebol.application.game;
+
+import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.exceptions.ConflictException;
+import br.com.futebol.domain.game.Game;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameHistoryRow;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.interfaces.game.CreateGameRequest;
+import br.com.futebol.interfaces.game.CreateGameResponse;
+import br.com.futebol.interfaces.game.GameHistoryItemResponse;
+import br.com.futebol.interfaces.game.GameHistoryResponse;
+import jakarta.persistence.PersistenceException;
+import jakarta.ws.rs.core.Response;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class GameServiceTest {
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UUID adminId = UUID.randomUUID();
+
+    private GameService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GameService();
+        service.gameRepository = gameRepository;
+        service.userRepository = userRepository;
+        when(userRepository.findByIdOptional(adminId)).thenReturn(Optional.of(
+                User.builder().id(adminId).fullName("Admin").profile(UserProfile.ADMIN).build()));
+    }
+
+    @Test
+    void shouldNotReportUnreleasedGamesWhenNoneWasReleased() {
+        when(gameRepository.unreleaseAll()).thenReturn(List.of());
+
+        CreateGameResponse response = service.create(createRequest(), adminId);
+
+        assertNull(response.getMessage());
+        assertTrue(response.getReleased());
+        verify(gameRepository).persistAndFlush(any(Game.class));
+    }
+
+    @Test
+    void shouldReportTheSingleUnreleasedGameId() {
+        UUID previous = UUID.randomUUID();
+        when(gameRepository.unreleaseAll()).thenReturn(List.of(previous));
+
+        CreateGameResponse response = service.create(createRequest(), adminId);
+
+        assertEquals(String.format("O gameId %s foi alterado para released = false. O novo game e o unico com released = true.",
+                previous), response.getMessage());
+    }
+
+    @Test
+    void shouldReportManyUnreleasedGamesWithoutIds() {
+        when(gameRepository.unreleaseAll()).thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        CreateGameResponse response = service.create(createRequest(), adminId);
+
+        assertEquals("Os gameIds foram alterados para released = false. O novo game é o unico com released = true.",
+                response.getMessage());
+    }
+
+    @Test
+    void shouldMapConcurrentReleaseToConflict() {
+        when(gameRepository.unreleaseAll()).thenReturn(List.of());
+        doThrow(new PersistenceException(constraintViolation(GameService.RELEASED_GAME_CONSTRAINT)))
+                .when(gameRepository).persistAndFlush(any(Game.class));
+
+        ConflictException e = assertThrows(ConflictException.class, () -> service.create(createRequest(), adminId));
+
+        assertEquals(Response.Status.CONFLICT, e.getStatus());
+    }
+
+    @Test
+    void shouldRethrowOtherConstraintViolations() {
+        when(gameRepository.unreleaseAll()).thenReturn(List.of());
+        PersistenceException failure = new PersistenceException(constraintViolation("games_name_check"));
+        doThrow(failure).when(gameRepository).persistAndFlush(any(Game.class));
+
+        PersistenceException thrown = assertThrows(PersistenceException.class, () -> service.create(createRequest(), adminId));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void shouldRoundTripHistoryCursor() {
+        OffsetDateTime gameDate = OffsetDateTime.parse("2025-03-01T20:00:00.123456-03:00");
+        UUID id = UUID.randomUUID();
+
+        GameService.HistoryCursor cursor = GameService.decodeCursor(GameService.encodeCursor(gameDate, id));
+
+        assertTrue(gameDate.isEqual(cursor.gameDate()));
+        assertEquals(id, cursor.id());
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThrows(BusinessException.class, () -> GameService.decodeCursor("nao-e-um-cursor"));
+    }
+
+    @Test
+    void shouldFetchOneExtraRowToBuildNextCursor() {
+        GameHistoryRow newest = row(OffsetDateTime.parse("2025-03-08T20:00:00Z"), null);
+        GameHistoryRow older = row(OffsetDateTime.parse("2025-03-01T20:00:00Z"), null);
+        GameHistoryRow oldest = row(OffsetDateTime.parse("2025-02-22T20:00:00Z"), null);
+        when(gameRepository.findHistoryPage(isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(newest, older, oldest));
+
+        GameHistoryResponse page = service.findHistory(null, null, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        GameService.HistoryCursor next = GameService.decodeCursor(page.getNextCursor());
+        assertEquals(older.id(), next.id());
+        assertTrue(older.gameDate().isEqual(next.gameDate()));
+    }
+
+    @Test
+    void shouldContinueFromCursorAndStopOnLastPage() {
+        OffsetDateTime afterDate = OffsetDateTime.parse("2025-03-01T20:00:00Z");
+        UUID afterId = UUID.randomUUID();
+        GameHistoryRow oldest = row(OffsetDateTime.parse("2025-02-22T20:00:00Z"), null);
+        when(gameRepository.findHistoryPage(isNull(), isNull(), any(OffsetDateTime.class), eq(afterId), eq(21)))
+                .thenReturn(List.of(oldest));
+
+        GameHistoryResponse page = service.findHistory(null, null, GameService.encodeCursor(afterDate, afterId), null);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+        assertEquals(GameService.DEFAULT_HISTORY_LIMIT, page.getLimit());
+    }
+
+    @Test
+    void shouldHideVotingLeaderWhileVotingIsOpen() {
+        GameHistoryRow open = row(OffsetDateTime.parse("2025-03-08T20:00:00Z"), null);
+        GameHistoryRow closed = row(OffsetDateTime.parse("2025-03-01T20:00:00Z"), OffsetDateTime.parse("2025-03-01T23:00:00Z"));
+        when(gameRepository.findHistoryPage(any(), any(), any(), any(), anyInt())).thenReturn(List.of(open, closed));
+
+        List<GameHistoryItemResponse> items = service.findHistory(null, null, null, null).getItems();
+
+        assertNull(items.get(0).getWorstPlayerVoting().getLeaderName());
+        assertEquals("Jogador 1", items.get(1).getWorstPlayerVoting().getLeaderName());
+        assertEquals(12L, items.get(1).getTotalConfirmations());
+    }
+
+    @Test
+    void shouldRejectLimitOutOfRange() {
+        assertThrows(BusinessException.class, () -> service.findHistory(null, null, null, 0));
+        assertThrows(BusinessException.class, () -> service.findHistory(null, null, null, GameService.MAX_HISTORY_LIMIT + 1));
+        verifyNoInteractions(gameRepository);
+    }
+
+    private CreateGameRequest createRequest() {
+        return CreateGameRequest.builder().name("Pelada").startDate("2025-03-08").startHour("20:00").build();
+    }
+
+    private ConstraintViolationException constraintViolation(String constraintName) {
+        return new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraintName);
+    }
+
+    private GameHistoryRow row(OffsetDateTime gameDate, OffsetDateTime votingClosedAt) {
+        return new GameHistoryRow(UUID.randomUUID(), "Jogo", gameDate, false, false,
+                votingClosedAt == null ? null : votingClosedAt.minusHours(1), votingClosedAt,
+                10L, 2L, 8L, "Jogador 1", 5L);
+    }
+}
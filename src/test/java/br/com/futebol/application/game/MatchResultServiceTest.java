@@ -0,0 +1,118 @@
+package br.com.futebol.application.game;
+
+import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.exceptions.ForbiddenException;
+import br.com.futebol.domain.game.Game;
+import br.com.futebol.domain.game.MatchResult;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.MatchResultRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.interfaces.game.MatchResultResponse;
+import br.com.futebol.interfaces.game.RecordMatchResultRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MatchResultServiceTest {
+
+    private final MatchResultRepository matchResultRepository = mock(MatchResultRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private MatchResultService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MatchResultService();
+        service.matchResultRepository = matchResultRepository;
+        service.gameRepository = gameRepository;
+        service.userRepository = userRepository;
+    }
+
+    @Test
+    void shouldRecordResultAndUpdateBothTeams() {
+        UUID gameId = UUID.randomUUID();
+        UUID adminId = UUID.randomUUID();
+        UUID divisionId = UUID.randomUUID();
+
+        when(userRepository.findActiveById(adminId)).thenReturn(Optional.of(user(adminId, UserProfile.ADMIN)));
+        when(gameRepository.findByIdOptional(gameId)).thenReturn(Optional.of(Game.builder().id(gameId).build()));
+        when(matchResultRepository.findCurrentTeamDivisionId(gameId)).thenReturn(Optional.of(divisionId));
+        when(matchResultRepository.findTeamNumbers(divisionId)).thenReturn(List.of(1, 2, 3));
+        when(matchResultRepository.applyResultToStatistics(any(MatchResult.class))).thenReturn(10);
+
+        MatchResultResponse response = service.recordResult(gameId, request(1, 3, 2, 1), adminId);
+
+        ArgumentCaptor<MatchResult> captor = ArgumentCaptor.forClass(MatchResult.class);
+        verify(matchResultRepository).persist(captor.capture());
+        verify(matchResultRepository).applyResultToStatistics(captor.getValue());
+
+        assertEquals(divisionId, captor.getValue().getTeamDivisionId());
+        assertEquals(1, response.getWinnerTeamNumber());
+        assertEquals(10, response.getUpdatedPlayers());
+    }
+
+    @Test
+    void shouldReportDrawWithoutWinner() {
+        MatchResult result = MatchResult.builder().homeTeamNumber(1).awayTeamNumber(2).homeScore(1).awayScore(1).build();
+
+        assertTrue(result.isDraw());
+        assertNull(result.getWinnerTeamNumber());
+        assertNull(result.getLoserTeamNumber());
+    }
+
+    @Test
+    void shouldRejectTeamOutsideCurrentDivision() {
+        UUID gameId = UUID.randomUUID();
+        UUID adminId = UUID.randomUUID();
+        UUID divisionId = UUID.randomUUID();
+
+        when(userRepository.findActiveById(adminId)).thenReturn(Optional.of(user(adminId, UserProfile.ADMIN)));
+        when(gameRepository.findByIdOptional(gameId)).thenReturn(Optional.of(Game.builder().id(gameId).build()));
+        when(matchResultRepository.findCurrentTeamDivisionId(gameId)).thenReturn(Optional.of(divisionId));
+        when(matchResultRepository.findTeamNumbers(divisionId)).thenReturn(List.of(1, 2));
+
+        assertThrows(BusinessException.class, () -> service.recordResult(gameId, request(1, 4, 0, 0), adminId));
+        verify(matchResultRepository, never()).persist(any(MatchResult.class));
+    }
+
+    @Test
+    void shouldRejectPlayerRecordingResult() {
+        UUID gameId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
+
+        when(userRepository.findActiveById(playerId)).thenReturn(Optional.of(user(playerId, UserProfile.JOGADOR)));
+
+        assertThrows(ForbiddenException.class, () -> service.recordResult(gameId, request(1, 2, 1, 0), playerId));
+    }
+
+    private RecordMatchResultRequest request(int homeTeam, int awayTeam, int homeScore, int awayScore) {
+        return RecordMatchResultRequest.builder()
+                .homeTeamNumber(homeTeam)
+                .awayTeamNumber(awayTeam)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .build();
+    }
+
+    private User user(UUID id, UserProfile profile) {
+        return User.builder()
+                .id(id)
+                .fullName("Usuario")
+                .email("usuario@mail.com")
+                .password("secret")
+                .profile(profile)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.futebol.application.game;
+
+import br.com.futebol.core.exceptions.BusinessException;
+import br.com.futebol.core.exceptions.ForbiddenException;
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.ReactiveWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.game.WorstPlayerVoteCountRow;
+import br.com.futebol.infrastructure.user.ReactiveUserRepository;
+import br.com.futebol.interfaces.game.WorstPlayerRankingResponse;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveWorstPlayerVotingServiceTest {
+
+    private final ReactiveWorstPlayerVoteRepository voteRepository = mock(ReactiveWorstPlayerVoteRepository.class);
+    private final ReactiveUserRepository userRepository = mock(ReactiveUserRepository.class);
+
+    private ReactiveWorstPlayerVotingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveWorstPlayerVotingService();
+        service.reactiveWorstPlayerVoteRepository = voteRepository;
+        service.reactiveUserRepository = userRepository;
+    }
+
+    @Test
+    void shouldBuildGameRankingFromAggregatedVotes() {
+        UUID gameId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
+
+        when(userRepository.findActiveProfileById(playerId)).thenReturn(Uni.createFrom().item(Optional.of(UserProfile.JOGADOR)));
+        when(voteRepository.existsGame(gameId)).thenReturn(Uni.createFrom().item(true));
+        when(voteRepository.countByGameId(gameId)).thenReturn(Uni.createFrom().item(List.of(
+                new WorstPlayerVoteCountRow(UUID.randomUUID(), gameId, UUID.randomUUID(), "Bruno", 3),
+                new WorstPlayerVoteCountRow(UUID.randomUUID(), gameId, UUID.randomUUID(), "Carlos", 1)
+        )));
+
+        WorstPlayerRankingResponse response = service.getGameRanking(gameId, playerId).await().indefinitely();
+
+        assertEquals(2, response.getTotal());
+        assertEquals(1, response.getItems().get(0).getPosition());
+        assertEquals("Bruno", response.getItems().get(0).getPlayerName());
+        assertEquals(2, response.getItems().get(1).getPosition());
+    }
+
+    @Test
+    void shouldFailWhenGameDoesNotExist() {
+        UUID gameId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
+
+        when(userRepository.findActiveProfileById(playerId)).thenReturn(Uni.createFrom().item(Optional.of(UserProfile.ADMIN)));
+        when(voteRepository.existsGame(gameId)).thenReturn(Uni.createFrom().item(false));
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getGameRanking(gameId, playerId).await().indefinitely());
+        verify(voteRepository, never()).countByGameId(any());
+    }
+
+    @Test
+    void shouldRejectSuperAdminBeforeQueryingVotes() {
+        UUID superAdminId = UUID.randomUUID();
+
+        when(userRepository.findActiveProfileById(superAdminId)).thenReturn(Uni.createFrom().item(Optional.of(UserProfile.SUPER_ADMIN)));
+
+        assertThrows(ForbiddenException.class,
+                () -> service.getHistoricalRanking("2026-01-01", "2026-01-31", superAdminId).await().indefinitely());
+        verify(voteRepository, never()).countByGameDateBetween(any(), any());
+    }
+
+    @Test
+    void shouldRejectHistoryWithEndBeforeStart() {
+        UUID playerId = UUID.randomUUID();
+
+        when(userRepository.findActiveProfileById(playerId)).thenReturn(Uni.createFrom().item(Optional.of(UserProfile.JOGADOR)));
+
+        assertThrows(BusinessException.class,
+                () -> service.getHistoricalRanking("2026-02-01", "2026-01-01", playerId).await().indefinitely());
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.futebol.application.sync;
+
+import br.com.futebol.core.exceptions.ResourceNotFoundException;
+import br.com.futebol.domain.game.Game;
+import br.com.futebol.domain.sync.SyncTombstone;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.infrastructure.game.GameConfirmationRepository;
+import br.com.futebol.infrastructure.game.GameConfirmationRow;
+import br.com.futebol.infrastructure.game.GameRepository;
+import br.com.futebol.infrastructure.game.GameWorstPlayerVoteRepository;
+import br.com.futebol.infrastructure.sync.SyncTombstoneRepository;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import br.com.futebol.interfaces.sync.SyncResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SyncServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final GameConfirmationRepository gameConfirmationRepository = mock(GameConfirmationRepository.class);
+    private final UserStatisticsRepository userStatisticsRepository = mock(UserStatisticsRepository.class);
+    private final GameWorstPlayerVoteRepository gameWorstPlayerVoteRepository = mock(GameWorstPlayerVoteRepository.class);
+    private final SyncTombstoneRepository syncTombstoneRepository = mock(SyncTombstoneRepository.class);
+
+    private final UUID userId = UUID.randomUUID();
+    private final OffsetDateTime now = OffsetDateTime.parse("2025-03-01T20:00:00.123456Z");
+
+    private SyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncService();
+        service.userRepository = userRepository;
+        service.gameRepository = gameRepository;
+        service.gameConfirmationRepository = gameConfirmationRepository;
+        service.userStatisticsRepository = userStatisticsRepository;
+        service.gameWorstPlayerVoteRepository = gameWorstPlayerVoteRepository;
+        service.syncTombstoneRepository = syncTombstoneRepository;
+        service.overlap = Duration.ofSeconds(5);
+        service.gameWindow = Duration.ofDays(30);
+
+        when(userRepository.findActiveById(userId)).thenReturn(Optional.of(User.builder()
+                .id(userId)
+                .fullName("Jogador")
+                .profile(UserProfile.JOGADOR)
+                .active(true)
+                .build()));
+        when(syncTombstoneRepository.oldestActiveTransactionStart()).thenReturn(now);
+        when(gameRepository.findUpdatedSince(any(), any())).thenReturn(List.of());
+        when(gameConfirmationRepository.findRowsUpdatedSince(any(), any())).thenReturn(List.of());
+        when(gameConfirmationRepository.findRowsUpdatedSinceAndUserRelated(any(), any(), any())).thenReturn(List.of());
+        when(userStatisticsRepository.findByUserIdUpdatedSince(eq(userId), any())).thenReturn(Optional.empty());
+        when(gameWorstPlayerVoteRepository.findByVoterUserIdUpdatedSince(eq(userId), any())).thenReturn(List.of());
+        when(syncTombstoneRepository.findDeletedIdsSince(anyString(), any())).thenReturn(List.of());
+        when(syncTombstoneRepository.findDeletedIdsSinceForUser(anyString(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void shouldReturnOnlyWatermarkWhenNothingChanged() {
+        OffsetDateTime since = now.minusMinutes(10);
+
+        SyncResponse response = service.sync(userId, since);
+
+        assertEquals(now.minusSeconds(5), response.getWatermark());
+        assertFalse(response.isFullSync());
+        assertTrue(response.getGames().isEmpty());
+        assertTrue(response.getConfirmations().isEmpty());
+        assertNull(response.getStatistics());
+        assertTrue(response.getVotes().isEmpty());
+        verify(gameRepository).findUpdatedSince(since, now.minusDays(30));
+        verify(syncTombstoneRepository).findDeletedIdsSince(SyncTombstone.GAMES, since);
+    }
+
+    @Test
+    void shouldReturnChangedGamesAndDeletedIds() {
+        OffsetDateTime since = now.minusMinutes(10);
+        UUID gameId = UUID.randomUUID();
+        UUID deletedConfirmationId = UUID.randomUUID();
+        when(gameRepository.findUpdatedSince(eq(since), any())).thenReturn(List.of(Game.builder()
+                .id(gameId)
+                .name("Quinta")
+                .released(true)
+                .updatedAt(now.minusMinutes(1))
+                .build()));
+        when(syncTombstoneRepository.findDeletedIdsSinceForUser(SyncTombstone.GAME_CONFIRMATIONS, since, userId))
+                .thenReturn(List.of(deletedConfirmationId));
+
+        SyncResponse response = service.sync(userId, since);
+
+        assertEquals(1, response.getGames().size());
+        assertEquals(gameId, response.getGames().get(0).getId());
+        assertEquals(List.of(deletedConfirmationId), response.getDeletedConfirmationIds());
+    }
+
+    @Test
+    void shouldLoadEverythingWithoutSince() {
+        SyncResponse response = service.sync(userId, null);
+
+        assertTrue(response.isFullSync());
+        verify(gameRepository).findUpdatedSince(SyncService.FULL_SYNC, now.minusDays(30));
+        verify(gameConfirmationRepository).findRowsUpdatedSinceAndUserRelated(SyncService.FULL_SYNC, now.minusDays(30), userId);
+        verify(syncTombstoneRepository, never()).findDeletedIdsSince(anyString(), any());
+        verify(syncTombstoneRepository, never()).findDeletedIdsSinceForUser(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldTakeWatermarkFromOldestOpenTransaction() {
+        OffsetDateTime longTransactionStart = now.minusSeconds(30);
+        when(syncTombstoneRepository.oldestActiveTransactionStart()).thenReturn(longTransactionStart);
+
+        SyncResponse response = service.sync(userId, now.minusMinutes(10));
+
+        assertEquals(longTransactionStart.minusSeconds(5), response.getWatermark());
+    }
+
+    @Test
+    void shouldFallBackToFullSyncWhenSinceIsOlderThanTombstoneRetention() {
+        OffsetDateTime since = now.minus(SyncService.TOMBSTONE_RETENTION).minusDays(1);
+
+        SyncResponse response = service.sync(userId, since);
+
+        assertTrue(response.isFullSync());
+        verify(gameRepository).findUpdatedSince(eq(SyncService.FULL_SYNC), any());
+        verify(syncTombstoneRepository, never()).findDeletedIdsSince(anyString(), any());
+    }
+
+    @Test
+    void shouldLimitPlayerToOwnConfirmations() {
+        OffsetDateTime since = now.minusMinutes(10);
+        UUID ownConfirmationId = UUID.randomUUID();
+        when(gameConfirmationRepository.findRowsUpdatedSinceAndUserRelated(since, now.minusDays(30), userId))
+                .thenReturn(List.of(confirmationRow(ownConfirmationId, userId)));
+
+        SyncResponse response = service.sync(userId, since);
+
+        assertEquals(1, response.getConfirmations().size());
+        assertEquals(ownConfirmationId, response.getConfirmations().get(0).getId());
+        verify(gameConfirmationRepository, never()).findRowsUpdatedSince(any(), any());
+        verify(syncTombstoneRepository, never()).findDeletedIdsSince(eq(SyncTombstone.GAME_CONFIRMATIONS), any());
+        verify(syncTombstoneRepository).findDeletedIdsSinceForUser(SyncTombstone.GAME_CONFIRMATIONS, since, userId);
+    }
+
+    @Test
+    void shouldReturnFullConfirmationListToAdmin() {
+        UUID adminId = UUID.randomUUID();
+        when(userRepository.findActiveById(adminId)).thenReturn(Optional.of(User.builder()
+                .id(adminId)
+                .fullName("Admin")
+                .profile(UserProfile.ADMIN)
+                .active(true)
+                .build()));
+        OffsetDateTime since = now.minusMinutes(10);
+        when(gameConfirmationRepository.findRowsUpdatedSince(since, now.minusDays(30)))
+                .thenReturn(List.of(confirmationRow(UUID.randomUUID(), UUID.randomUUID())));
+
+        SyncResponse response = service.sync(adminId, since);
+
+        assertEquals(1, response.getConfirmations().size());
+        verify(gameConfirmationRepository, never()).findRowsUpdatedSinceAndUserRelated(any(), any(), any());
+        verify(syncTombstoneRepository).findDeletedIdsSince(SyncTombstone.GAME_CONFIRMATIONS, since);
+    }
+
+    @Test
+    void shouldRejectUnknownUser() {
+        UUID unknownId = UUID.randomUUID();
+        when(userRepository.findActiveById(unknownId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.sync(unknownId, null));
+        verifyNoInteractions(gameRepository);
+    }
+
+    private GameConfirmationRow confirmationRow(UUID id, UUID confirmationUserId) {
+        return new GameConfirmationRow(id, UUID.randomUUID(), confirmationUserId, "Jogador", false, null,
+                now.minusMinutes(1), now.minusMinutes(1), now.minusMinutes(1));
+    }
+}
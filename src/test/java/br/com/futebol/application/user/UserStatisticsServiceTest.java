@@ -0,0 +1,110 @@
+package br.com.futebol.application.user;
+
+import br.com.futebol.core.exceptions.UnauthorizedException;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.domain.user.UserStatistics;
+import br.com.futebol.infrastructure.user.RankingStatisticsRow;
+import br.com.futebol.infrastructure.user.UserRepository;
+import br.com.futebol.infrastructure.user.UserStatisticsRepository;
+import br.com.futebol.interfaces.user.BatchStatisticsResponse;
+import br.com.futebol.interfaces.user.RankingItemResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserStatisticsServiceTest {
+
+    private final UserStatisticsRepository userStatisticsRepository = mock(UserStatisticsRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final UUID adminId = UUID.randomUUID();
+
+    private UserStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserStatisticsService();
+        service.userStatisticsRepository = userStatisticsRepository;
+        service.userRepository = userRepository;
+
+        when(userRepository.findActiveById(adminId)).thenReturn(Optional.of(user(adminId, UserProfile.ADMIN)));
+    }
+
+    @Test
+    void shouldResolveBatchWithSingleQueryKeyedByUserId() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID withoutStatistics = UUID.randomUUID();
+        when(userStatisticsRepository.findByActiveUserIds(Set.of(first, second, withoutStatistics)))
+                .thenReturn(List.of(statistics(second, 3), statistics(first, 1)));
+
+        BatchStatisticsResponse response = service.findByUserIds(adminId, List.of(first, second, withoutStatistics, first));
+
+        assertEquals(List.of(first, second), List.copyOf(response.getStatistics().keySet()));
+        assertEquals(1, response.getStatistics().get(first).getGoals());
+        assertEquals(3, response.getStatistics().get(second).getGoals());
+        assertEquals(List.of(withoutStatistics), response.getMissingUserIds());
+        assertEquals(2, response.getTotal());
+        verify(userStatisticsRepository, times(1)).findByActiveUserIds(any());
+    }
+
+    @Test
+    void shouldRejectBatchForPlayers() {
+        UUID playerId = UUID.randomUUID();
+        when(userRepository.findActiveById(playerId)).thenReturn(Optional.of(user(playerId, UserProfile.JOGADOR)));
+
+        assertThrows(UnauthorizedException.class, () -> service.findByUserIds(playerId, List.of(UUID.randomUUID())));
+        verifyNoInteractions(userStatisticsRepository);
+    }
+
+    @Test
+    void shouldBuildRankingFromProjectedRowsWithoutLoadingUsers() {
+        UUID first = UUID.randomUUID();
+        UUID inactive = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        List<RankingStatisticsRow> rows = List.of(
+                new RankingStatisticsRow(first, "Primeiro", "primeiro@futebol.com", true, UserProfile.JOGADOR, Duration.ofMinutes(90)),
+                new RankingStatisticsRow(inactive, "Inativo", "inativo@futebol.com", false, UserProfile.JOGADOR, Duration.ofMinutes(60)),
+                new RankingStatisticsRow(third, "Terceiro", "terceiro@futebol.com", true, UserProfile.ADMIN, Duration.ofMinutes(30)));
+
+        List<RankingItemResponse> items = service.buildRankingItems(rows, "minutes");
+
+        assertEquals(List.of(first, third), items.stream().map(RankingItemResponse::getUserId).toList());
+        assertEquals(3, items.get(1).getPosition());
+        assertEquals(5400L, items.get(0).getValue());
+        assertEquals(UserStatisticsService.formatDuration(Duration.ofMinutes(90)), items.get(0).getFormattedValue());
+        verify(userRepository, never()).findActiveById(first);
+    }
+
+    private User user(UUID id, UserProfile profile) {
+        return User.builder()
+                .id(id)
+                .fullName("Usuario")
+                .profile(profile)
+                .active(true)
+                .build();
+    }
+
+    private UserStatistics statistics(UUID userId, int goals) {
+        return UserStatistics.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .minutesPlayed(Duration.ofMinutes(90))
+                .goals(goals)
+                .complaints(0)
+                .victories(0)
+                .draws(0)
+                .defeats(0)
+                .build();
+    }
+}
@@ -61,5 +61,32 @@ public class CorsConfigTest {
                 .header("Access-Control-Allow-Origin", notNullValue())
                 .header("Access-Control-Allow-Methods", notNullValue());
     }
-}
 
+    @Test
+    public void testOptionsPreflightAnsweredBeforeAuthentication() {
+        RestAssured.given()
+                .header(new Header("Origin", "http://localhost:3000"))
+                .header(new Header("Access-Control-Request-Method", "GET"))
+                .header(new Header("Access-Control-Request-Headers", "Authorization"))
+                .when()
+                .options("/api/games")
+                .then()
+                .statusCode(200)
+                .header("Access-Control-Allow-Origin", notNullValue())
+                .header("Access-Control-Allow-Headers", containsString("Authorization"));
+    }
+
+    @Test
+    public void testConditionalAndRateLimitHeadersAreAllowedAndExposed() {
+        RestAssured.given()
+                .header(new Header("Origin", "http://localhost:3000"))
+                .header(new Header("Access-Control-Request-Method", "GET"))
+                .header(new Header("Access-Control-Request-Headers", "If-None-Match"))
+                .when()
+                .options("/api/games")
+                .then()
+                .statusCode(200)
+                .header("Access-Control-Allow-Headers", containsString("If-None-Match"))
+                .header("Access-Control-Expose-Headers", allOf(containsString("ETag"), containsString("Retry-After")));
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.futebol.config;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+public class MetricsConfigTest {
+
+    @Test
+    @TestSecurity(user = "superadmin@futebol.com", roles = "SUPER_ADMIN")
+    public void testMetricsEndpointExposesSloBuckets() {
+        RestAssured.given()
+                .when()
+                .get("/api/health")
+                .then()
+                .statusCode(200);
+
+        RestAssured.given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("http_server_requests_seconds_bucket"))
+                .body(containsString("le=\"0.25\""))
+                .body(containsString("agroal_"));
+    }
+
+    @Test
+    public void testMetricsEndpointRequiresAuthentication() {
+        RestAssured.given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(401);
+    }
+
+    @Test
+    @TestSecurity(user = "jogador@futebol.com", roles = "JOGADOR")
+    public void testMetricsEndpointRejectsPlayers() {
+        RestAssured.given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(403);
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.futebol.core.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private SingleFlight singleFlight;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight();
+        singleFlight.meterRegistry = meterRegistry;
+    }
+
+    @Test
+    void shouldShareInFlightExecutionBetweenConcurrentCallers() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("ranking", "goals", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "ranking";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute("ranking", "goals", () -> {
+                executions.incrementAndGet();
+                return "outra execucao";
+            }));
+            while (coalesced("ranking") == 0) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("ranking", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("ranking", follower.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.get(SingleFlight.METRIC_NAME).tag("result", "executed").counter().count());
+    }
+
+    @Test
+    void shouldExecuteAgainAfterPreviousCallFinished() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("ranking", "goals", executions::incrementAndGet);
+        singleFlight.execute("ranking", "goals", executions::incrementAndGet);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void shouldNotShareExecutionBetweenDifferentKeys() {
+        assertEquals("goals", singleFlight.execute("ranking", "goals", () -> "goals"));
+        assertEquals("draws", singleFlight.execute("ranking", "draws", () -> "draws"));
+    }
+
+    @Test
+    void shouldPropagateFailureAndReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("ranking", "goals", () -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        assertEquals("ok", singleFlight.execute("ranking", "goals", () -> "ok"));
+    }
+
+    private double coalesced(String name) {
+        var counter = meterRegistry.find(SingleFlight.METRIC_NAME).tag("name", name).tag("result", "coalesced").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
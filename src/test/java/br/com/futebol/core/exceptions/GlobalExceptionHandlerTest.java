@@ -0,0 +1,78 @@
+package br.com.futebol.core.exceptions;
+
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void shouldNotCaptureStackTraceForDomainExceptions() {
+        assertEquals(0, new ConflictException("Usuario ja votou neste jogo").getStackTrace().length);
+        assertEquals(0, new BusinessException("Nome ja confirmado").getStackTrace().length);
+        assertEquals(0, new ResourceNotFoundException("Jogo", "id", "1").getStackTrace().length);
+        assertEquals(0, new ForbiddenException("Acesso negado").getStackTrace().length);
+        assertEquals(0, new UnauthorizedException().getStackTrace().length);
+    }
+
+    @Test
+    void shouldMapDomainExceptionToItsStatus() {
+        Response response = handler.toResponse(new ConflictException("Usuario ja votou neste jogo"));
+
+        assertEquals(409, response.getStatus());
+        ErrorResponse body = (ErrorResponse) response.getEntity();
+        assertEquals(409, body.getStatus());
+        assertEquals("Conflict", body.getError());
+        assertEquals("Usuario ja votou neste jogo", body.getMessage());
+    }
+
+    @Test
+    void shouldBuildBodyPerCallWithOffsetTimestamp() {
+        Response first = handler.toResponse(new ConflictException("Nome ja confirmado para este jogo. Escolha outro nome."));
+        Response second = handler.toResponse(new ConflictException("Nome ja confirmado para este jogo. Escolha outro nome."));
+
+        assertNotSame(first.getEntity(), second.getEntity());
+        String timestamp = ((ErrorResponse) first.getEntity()).getTimestamp();
+        assertDoesNotThrow(() -> OffsetDateTime.parse(timestamp));
+    }
+
+    @Test
+    void shouldUseSameTimestampFormatForDomainAndUnexpectedErrors() {
+        String domain = ((ErrorResponse) handler.toResponse(new ResourceNotFoundException("Jogo", "id", "1")).getEntity()).getTimestamp();
+        String unexpected = ((ErrorResponse) handler.toResponse(new IllegalStateException("falha")).getEntity()).getTimestamp();
+
+        assertDoesNotThrow(() -> OffsetDateTime.parse(domain));
+        assertDoesNotThrow(() -> OffsetDateTime.parse(unexpected));
+    }
+
+    @Test
+    void shouldHideMessageOfUnexpectedErrors() {
+        Response response = handler.toResponse(new IllegalStateException("falha inesperada"));
+
+        assertEquals(500, response.getStatus());
+        assertEquals("Erro interno do servidor", ((ErrorResponse) response.getEntity()).getMessage());
+    }
+
+    @Test
+    void shouldRejectBulkheadOverflowWithTooManyRequests() {
+        Response response = handler.toResponse(new BulkheadException("bulkhead cheio"));
+
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeaderString("Retry-After"));
+    }
+
+    @Test
+    void shouldMapTimeoutToServiceUnavailable() {
+        Response response = handler.toResponse(new TimeoutException("tempo esgotado"));
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeaderString("Retry-After"));
+    }
+}
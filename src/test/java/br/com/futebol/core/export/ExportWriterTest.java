@@ -0,0 +1,81 @@
+package br.com.futebol.core.export;
+
+import br.com.futebol.core.exceptions.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    record TestRow(String name, Integer goals) implements ExportRow {
+        @Override
+        public List<Object> values() {
+            return Arrays.asList(name, goals);
+        }
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderAndEscapedValues() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = ExportWriter.write(Stream.of(new TestRow("Silva, Joao", 3), new TestRow("Ze \"Gol\"", null)),
+                TestRow.class, ExportFormat.CSV, objectMapper, output);
+
+        assertEquals(2, count);
+        assertEquals("name,goals\n\"Silva, Joao\",3\n\"Ze \"\"Gol\"\"\",\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldNeutralizeCellsThatSpreadsheetsWouldEvaluateAsFormulas() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ExportWriter.write(Stream.of(new TestRow("=HYPERLINK(\"http://x\",\"y\")", 1), new TestRow("+55 11", 2),
+                        new TestRow("-Joao", 3), new TestRow("@SUM(A1)", 4), new TestRow("Joao-Silva", -1)),
+                TestRow.class, ExportFormat.CSV, objectMapper, output);
+
+        assertEquals("name,goals\n"
+                        + "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",1\n"
+                        + "'+55 11,2\n"
+                        + "'-Joao,3\n"
+                        + "'@SUM(A1),4\n"
+                        + "Joao-Silva,-1\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = ExportWriter.write(Stream.of(new TestRow("Joao", 3), new TestRow("Pedro", 1)),
+                TestRow.class, ExportFormat.NDJSON, objectMapper, output);
+
+        assertEquals(2, count);
+        assertEquals("{\"name\":\"Joao\",\"goals\":3}\n{\"name\":\"Pedro\",\"goals\":1}\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteOnlyHeaderWhenThereAreNoRows() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = ExportWriter.write(Stream.empty(), TestRow.class, ExportFormat.CSV, objectMapper, output);
+
+        assertEquals(0, count);
+        assertEquals("name,goals\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldParseFormatParameter() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from(null));
+        assertEquals(ExportFormat.CSV, ExportFormat.from("csv"));
+        assertThrows(BusinessException.class, () -> ExportFormat.from("xlsx"));
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.futebol.core.http;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConditionalResponsesTest {
+
+    private final UUID id = UUID.randomUUID();
+    private final OffsetDateTime updatedAt = OffsetDateTime.parse("2025-03-01T20:00:00.123456Z");
+
+    @Test
+    void shouldChangeEntityTagWithMicrosecondPrecision() {
+        EntityTag first = ConditionalResponses.entityTag(id, updatedAt);
+        EntityTag second = ConditionalResponses.entityTag(id, updatedAt.plusNanos(1_000));
+
+        assertFalse(first.isWeak());
+        assertEquals(first, ConditionalResponses.entityTag(id, updatedAt));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void shouldReturnBodyWithValidatorsWhenClientHasNoMatch() {
+        Request request = mock(Request.class);
+        when(request.evaluatePreconditions(any(Date.class), any(EntityTag.class))).thenReturn(null);
+
+        Response response = ConditionalResponses.entity(request, id, updatedAt, "corpo");
+
+        assertEquals(200, response.getStatus());
+        assertEquals("corpo", response.getEntity());
+        assertEquals(ConditionalResponses.entityTag(id, updatedAt), response.getEntityTag());
+        assertNotNull(response.getLastModified());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenTagMatches() {
+        Request request = mock(Request.class);
+        when(request.evaluatePreconditions(any(Date.class), any(EntityTag.class)))
+                .thenReturn(Response.notModified(ConditionalResponses.entityTag(id, updatedAt)));
+
+        Response response = ConditionalResponses.entity(request, id, updatedAt, "corpo");
+
+        assertEquals(304, response.getStatus());
+        assertNull(response.getEntity());
+    }
+
+    @Test
+    void shouldNotBuildAggregateBodyWhenTagMatches() {
+        EntityTag tag = ConditionalResponses.versionTag("goals", "42");
+        Request request = mock(Request.class);
+        when(request.evaluatePreconditions(tag)).thenReturn(Response.notModified(tag));
+        AtomicInteger builds = new AtomicInteger();
+
+        Response response = ConditionalResponses.aggregate(request, "goals", "42", () -> {
+            builds.incrementAndGet();
+            return new Versioned<>("42", "ranking");
+        });
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, builds.get());
+    }
+
+    @Test
+    void shouldTagAggregateBodyWithTheVersionReadAlongsideIt() {
+        Request request = mock(Request.class);
+        when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(null);
+
+        // Corpo vindo de uma execucao agrupada iniciada antes da escrita que gerou a versao 43
+        Response response = ConditionalResponses.aggregate(request, "goals", "43", () -> new Versioned<>("42", "ranking"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("ranking", response.getEntity());
+        assertEquals(ConditionalResponses.versionTag("goals", "42"), response.getEntityTag());
+    }
+}
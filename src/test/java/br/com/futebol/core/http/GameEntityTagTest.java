@@ -0,0 +1,63 @@
+package br.com.futebol.core.http;
+
+import br.com.futebol.application.game.GameService;
+import br.com.futebol.domain.user.User;
+import br.com.futebol.domain.user.UserProfile;
+import br.com.futebol.interfaces.game.CreateGameRequest;
+import br.com.futebol.interfaces.game.GameResponse;
+import br.com.futebol.interfaces.game.UpdateGameRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * O ETag de GET /api/games/{id} deve mudar apos cada escrita, mesmo com o jogo no cache de segundo nivel.
+ */
+@QuarkusTest
+public class GameEntityTagTest {
+
+    @Inject
+    GameService gameService;
+
+    @Test
+    public void testEntityTagChangesAfterUpdate() {
+        UUID adminId = createAdmin();
+        UUID gameId = gameService.create(CreateGameRequest.builder()
+                .name("Quinta")
+                .startDate("2025-03-06")
+                .startHour("20:00")
+                .build(), adminId).getId();
+
+        GameResponse before = gameService.findById(gameId);
+        EntityTag beforeTag = ConditionalResponses.entityTag(gameId, before.getUpdatedAt());
+
+        GameResponse updated = gameService.update(gameId, UpdateGameRequest.builder()
+                .name("Quinta remarcada")
+                .startDate("2025-03-07")
+                .startHour("21:00")
+                .build(), adminId);
+        GameResponse after = gameService.findById(gameId);
+        EntityTag afterTag = ConditionalResponses.entityTag(gameId, after.getUpdatedAt());
+
+        assertEquals("Quinta remarcada", after.getName());
+        assertNotEquals(beforeTag, afterTag);
+        assertEquals(afterTag, ConditionalResponses.entityTag(gameId, updated.getUpdatedAt()));
+    }
+
+    private UUID createAdmin() {
+        User admin = User.builder()
+                .fullName("Admin ETag")
+                .email("etag." + UUID.randomUUID() + "@futebol.com")
+                .password("senha")
+                .profile(UserProfile.ADMIN)
+                .build();
+        QuarkusTransaction.requiringNew().run(admin::persist);
+        return admin.getId();
+    }
+}
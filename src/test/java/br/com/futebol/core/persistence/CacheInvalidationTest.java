@@ -0,0 +1,66 @@
+package br.com.futebol.core.persistence;
+
+import br.com.futebol.domain.user.User;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+public class CacheInvalidationTest {
+
+    @InjectMock
+    EntityCacheEvictor entityCacheEvictor;
+
+    @Inject
+    CacheInvalidationBus cacheInvalidationBus;
+
+    @Inject
+    CacheInvalidationListener cacheInvalidationListener;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @BeforeEach
+    void waitForListener() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!cacheInvalidationListener.isListening()) {
+            assertTrue(System.nanoTime() < deadline, "LISTEN nao executado no canal de invalidacao");
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    public void testNotificationFromAnotherInstanceEvictsLocalRegion() throws Exception {
+        sendNotification(User.class.getName() + CacheInvalidationBus.SEPARATOR + "outra-instancia");
+
+        verify(entityCacheEvictor, timeout(5000)).evictRemote(User.class.getName());
+    }
+
+    @Test
+    public void testOwnNotificationIsIgnored() throws Exception {
+        cacheInvalidationBus.publish(User.class.getName());
+        sendNotification("br.com.futebol.domain.game.Game" + CacheInvalidationBus.SEPARATOR + "outra-instancia");
+
+        verify(entityCacheEvictor, timeout(5000)).evictRemote("br.com.futebol.domain.game.Game");
+        verify(entityCacheEvictor, after(1000).never()).evictRemote(User.class.getName());
+    }
+
+    private void sendNotification(String payload) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, cacheInvalidationBus.getChannel());
+            statement.setString(2, payload);
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.futebol.core.persistence;
+
+import br.com.futebol.domain.user.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.Mockito.*;
+
+class EntityCacheEvictorTest {
+
+    private EntityCacheEvictor evictor;
+    private TransactionSynchronizationRegistry registry;
+    private Cache cache;
+    private CacheInvalidationBus cacheInvalidationBus;
+    private org.hibernate.Cache hibernateCache;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(TransactionSynchronizationRegistry.class);
+        cache = mock(Cache.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        hibernateCache = mock(org.hibernate.Cache.class);
+        when(cache.unwrap(org.hibernate.Cache.class)).thenReturn(hibernateCache);
+
+        evictor = new EntityCacheEvictor();
+        evictor.entityManagerFactory = entityManagerFactory;
+        evictor.transactionSynchronizationRegistry = registry;
+        cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        evictor.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @Test
+    void shouldEvictRegionOnlyAfterCommit() {
+        when(registry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+
+        evictor.evictAfterCommit(User.class);
+
+        ArgumentCaptor<Synchronization> captor = ArgumentCaptor.forClass(Synchronization.class);
+        verify(registry).registerInterposedSynchronization(captor.capture());
+        verify(cache, never()).evict(User.class);
+        verify(cacheInvalidationBus, never()).publish(any());
+
+        captor.getValue().afterCompletion(Status.STATUS_COMMITTED);
+        verify(cache).evict(User.class);
+        verify(cacheInvalidationBus).publish(User.class.getName());
+    }
+
+    @Test
+    void shouldKeepRegionOnRollback() {
+        when(registry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+
+        evictor.evictAfterCommit(User.class);
+
+        ArgumentCaptor<Synchronization> captor = ArgumentCaptor.forClass(Synchronization.class);
+        verify(registry).registerInterposedSynchronization(captor.capture());
+        captor.getValue().afterCompletion(Status.STATUS_ROLLEDBACK);
+        verify(cache, never()).evict(User.class);
+        verify(cacheInvalidationBus, never()).publish(any());
+    }
+
+    @Test
+    void shouldEvictImmediatelyWithoutTransaction() {
+        when(registry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+
+        evictor.evictAfterCommit(User.class);
+
+        verify(cache).evict(User.class);
+        verify(registry, never()).registerInterposedSynchronization(any());
+    }
+
+    @Test
+    void shouldEmptyEntityAndQueryRegionsLocallyWhenLifespanEnds() {
+        evictor.evictExpired();
+
+        verify(hibernateCache).evictEntityData();
+        verify(hibernateCache).evictDefaultQueryRegion();
+        verify(cacheInvalidationBus, never()).publish(any());
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.futebol.core.persistence;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Falha o teste se alguma requisicao feita via RestAssured executar mais comandos SQL
+ * do que o orcamento declarado (lido do header X-Query-Count).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * @return quantidade maxima de comandos SQL por requisicao
+     */
+    int value();
+}
@@ -0,0 +1,44 @@
+package br.com.futebol.core.persistence;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        List<Filter> previousFilters = new ArrayList<>(RestAssured.filters());
+        context.getStore(NAMESPACE).put("filters", previousFilters);
+
+        RestAssured.filters((requestSpec, responseSpec, filterContext) -> {
+            Response response = filterContext.next(requestSpec, responseSpec);
+            String header = response.getHeader(QueryStatsResponseFilter.QUERY_COUNT_HEADER);
+            assertNotNull(header, "Resposta sem header " + QueryStatsResponseFilter.QUERY_COUNT_HEADER);
+
+            int queryCount = Integer.parseInt(header);
+            assertTrue(queryCount <= budget.value(), String.format("%s %s executou %d comandos SQL (orcamento: %d)",
+                    requestSpec.getMethod(), requestSpec.getURI(), queryCount, budget.value()));
+            return response;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        List<Filter> previousFilters = context.getStore(NAMESPACE).remove("filters", List.class);
+        RestAssured.replaceFiltersWith(previousFilters != null ? previousFilters : List.of());
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.futebol.core.persistence;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.notNullValue;
+
+@QuarkusTest
+public class QueryBudgetTest {
+
+    @Test
+    @TestSecurity(user = "jogador@futebol.com", roles = "JOGADOR")
+    @QueryBudget(3)
+    public void testRankingStaysWithinQueryBudget() {
+        RestAssured.given()
+                .when()
+                .get("/api/ranking/goals")
+                .then()
+                .statusCode(200)
+                .header("X-Query-Time-Ms", notNullValue());
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.interceptor.InvocationContext;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadOnlySessionInterceptorTest {
+
+    private final Session session = mock(Session.class);
+    private ReadOnlySessionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ReadOnlySessionInterceptor();
+        interceptor.session = session;
+        when(session.getHibernateFlushMode()).thenReturn(FlushMode.AUTO);
+        when(session.isOpen()).thenReturn(true);
+    }
+
+    @Test
+    void shouldUseReadOnlySessionWithManualFlushAndRestoreAfter() throws Exception {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.proceed()).thenReturn("ok");
+
+        assertEquals("ok", interceptor.readOnlySession(context));
+
+        var order = inOrder(session, context);
+        order.verify(session).setDefaultReadOnly(true);
+        order.verify(session).setHibernateFlushMode(FlushMode.MANUAL);
+        order.verify(context).proceed();
+        order.verify(session).setDefaultReadOnly(false);
+        order.verify(session).setHibernateFlushMode(FlushMode.AUTO);
+    }
+
+    @Test
+    void shouldNotPutIntoSecondLevelCacheFromReplicaSession() throws Exception {
+        when(session.getTenantIdentifier()).thenReturn(ReadReplicaTenantResolver.REPLICA);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        InvocationContext context = mock(InvocationContext.class);
+
+        interceptor.readOnlySession(context);
+
+        var order = inOrder(session, context);
+        order.verify(session).setCacheMode(CacheMode.GET);
+        order.verify(context).proceed();
+        order.verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void shouldKeepCacheModeOnPrimarySession() throws Exception {
+        when(session.getTenantIdentifier()).thenReturn(ReadReplicaTenantResolver.PRIMARY);
+        InvocationContext context = mock(InvocationContext.class);
+
+        interceptor.readOnlySession(context);
+
+        verify(session, never()).setCacheMode(any());
+    }
+
+    @Test
+    void shouldKeepOuterReadOnlySessionForNestedCalls() throws Exception {
+        when(session.isDefaultReadOnly()).thenReturn(true);
+        InvocationContext context = mock(InvocationContext.class);
+
+        interceptor.readOnlySession(context);
+
+        verify(context).proceed();
+        verify(session, never()).setDefaultReadOnly(anyBoolean());
+        verify(session, never()).setHibernateFlushMode(any());
+    }
+
+    @Test
+    void shouldRestoreSessionWhenMethodFails() throws Exception {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.proceed()).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> interceptor.readOnlySession(context));
+        verify(session).setDefaultReadOnly(false);
+        verify(session).setHibernateFlushMode(FlushMode.AUTO);
+    }
+}
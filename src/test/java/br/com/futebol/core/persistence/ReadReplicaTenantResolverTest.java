@@ -0,0 +1,83 @@
+package br.com.futebol.core.persistence;
+
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadReplicaTenantResolverTest {
+
+    private ReadReplicaTenantResolver resolver;
+    private ReadOnlyInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ReadReplicaTenantResolver();
+        resolver.replicaEnabled = true;
+        interceptor = new ReadOnlyInterceptor();
+    }
+
+    @Test
+    void shouldUsePrimaryOutsideReadOnlyMethods() {
+        assertEquals(ReadReplicaTenantResolver.PRIMARY, resolver.resolveTenantId());
+    }
+
+    @Test
+    void shouldUseReplicaInsideReadOnlyMethodAndRestoreAfter() throws Exception {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.proceed()).thenAnswer(invocation -> resolver.resolveTenantId());
+
+        assertEquals(ReadReplicaTenantResolver.REPLICA, interceptor.routeToReplica(context));
+        assertEquals(ReadReplicaTenantResolver.PRIMARY, resolver.resolveTenantId());
+    }
+
+    @Test
+    void shouldKeepReplicaForNestedReadOnlyCalls() throws Exception {
+        InvocationContext inner = mock(InvocationContext.class);
+        when(inner.proceed()).thenReturn(null);
+        InvocationContext outer = mock(InvocationContext.class);
+        when(outer.proceed()).thenAnswer(invocation -> {
+            interceptor.routeToReplica(inner);
+            return resolver.resolveTenantId();
+        });
+
+        assertEquals(ReadReplicaTenantResolver.REPLICA, interceptor.routeToReplica(outer));
+        assertFalse(ReadReplicaTenantResolver.isReadOnly());
+    }
+
+    @Test
+    void shouldRestoreRoutingWhenMethodFails() throws Exception {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.proceed()).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> interceptor.routeToReplica(context));
+        assertEquals(ReadReplicaTenantResolver.PRIMARY, resolver.resolveTenantId());
+    }
+
+    @Test
+    void shouldUsePrimaryWhenReplicaIsDisabled() throws Exception {
+        resolver.replicaEnabled = false;
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.proceed()).thenAnswer(invocation -> resolver.resolveTenantId());
+
+        assertEquals(ReadReplicaTenantResolver.PRIMARY, interceptor.routeToReplica(context));
+    }
+
+    @Test
+    void shouldUsePrimaryForReadOnlyMethodsOutsideReplica() throws Exception {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.getMethod()).thenReturn(Queries.class.getDeclaredMethod("ownWrites"));
+        when(context.proceed()).thenAnswer(invocation -> resolver.resolveTenantId());
+
+        assertEquals(ReadReplicaTenantResolver.PRIMARY, interceptor.routeToReplica(context));
+    }
+
+    static class Queries {
+
+        @ReadOnly(replica = false)
+        void ownWrites() {
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.futebol.interfaces;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+@QuarkusIntegrationTest
+public class SmokeIT extends SmokeTest {
+}
@@ -0,0 +1,75 @@
+package br.com.futebol.interfaces;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Fluxo minimo da API (cadastro, login com JWT, consulta autenticada e erro de dominio).
+ * Executado tambem contra o binario nativo por {@link SmokeIT}.
+ */
+@QuarkusTest
+public class SmokeTest {
+
+    @Test
+    public void testHealth() {
+        RestAssured.given()
+                .when()
+                .get("/api/health")
+                .then()
+                .statusCode(200)
+                .body("status", equalTo("UP"));
+    }
+
+    @Test
+    public void testRegisterLoginAndMe() {
+        String email = "smoke." + UUID.randomUUID() + "@futebol.com";
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"fullName\":\"Jogador Smoke\",\"email\":\"" + email + "\",\"password\":\"senha123\"}")
+                .when()
+                .post("/api/users")
+                .then()
+                .statusCode(201)
+                .body("email", equalTo(email));
+
+        String token = RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"email\":\"" + email + "\",\"password\":\"senha123\"}")
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(200)
+                .body("user.email", equalTo(email))
+                .extract()
+                .path("token");
+
+        RestAssured.given()
+                .auth().oauth2(token)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(200)
+                .body("email", equalTo(email))
+                .body("profile", equalTo("JOGADOR"));
+    }
+
+    @Test
+    public void testDomainErrorBody() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"email\":\"naoexiste@futebol.com\",\"password\":\"senha123\"}")
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(401)
+                .body("status", equalTo(401))
+                .body("message", notNullValue());
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.futebol.interfaces;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@VirtualThreadUnit
+@ShouldNotPin
+public class VirtualThreadPinningTest {
+
+    @Test
+    public void testLoginDoesNotPinCarrierThread() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"email\":\"naoexiste@futebol.com\",\"password\":\"senha123\"}")
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(401);
+    }
+
+    @Test
+    public void testUserRegistrationValidationDoesNotPinCarrierThread() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{}")
+                .when()
+                .post("/api/users")
+                .then()
+                .statusCode(400);
+    }
+}